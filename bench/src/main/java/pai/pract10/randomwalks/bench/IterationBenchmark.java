@@ -0,0 +1,95 @@
+/**
+ * File containing the IterationBenchmark entity definition.
+ */
+
+package pai.pract10.randomwalks.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomStream;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which measures the cost of a full iteration of the model, which steps
+ * every random walk once. Each measurement times a batch of ITERATIONS
+ * iterations of a fresh model, short enough to keep nine in ten random walks
+ * active in the crowded space without collisions, so the score is the time of
+ * the whole batch. It was created for the tenth practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = IterationBenchmark.ITERATIONS)
+@Measurement(iterations = 20, batchSize = IterationBenchmark.ITERATIONS)
+public class IterationBenchmark {
+
+	/** Amount of iterations of the model measured after creating it. */
+	static final int					ITERATIONS			= 4;
+	/** Seed of the simulated models. */
+	private static final long	SEED						= 42;
+	/** Amount of positions of the space per random walk. */
+	private static final int	CELLS_PER_WALK	= 16;
+	/** Amount of random walks. */
+	@Param({ "1000", "100000", "10000000" })
+	public int								walkers;
+	/** Establishes if the collisions between random walks are allowed. */
+	@Param({ "true", "false" })
+	public boolean						allowCollisions;
+	/** Amount of threads used to step the random walks. */
+	@Param({ "1" })
+	public int								threads;
+	/** Simulated model. */
+	private RandomWalksModel	model;
+
+	/**
+	 * Creates the model before each batch of iterations, so every batch steps
+	 * the random walks from their starting positions.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		int side = (int) Math.ceil(Math.sqrt((double) walkers * CELLS_PER_WALK));
+		model = new RandomWalksModel(side, side, allowCollisions, SEED, walkers);
+		model.setParallelism(threads);
+		RandomStream random = model.createRandomStream(-1);
+		for (int i = 0; i < walkers; ++i) {
+			model.addRandomWalk(random.nextInt(side), random.nextInt(side));
+		}
+	}
+
+	/**
+	 * Releases the threads of the model.
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		model.setParallelism(1);
+	}
+
+	/**
+	 * Simulates an iteration.
+	 *
+	 * @return Moves of the iteration.
+	 */
+	@Benchmark
+	public MoveBatch calculateNextMoves() {
+		return model.calculateNextMoves();
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * File containing the OccupancyBenchmark entity definition.
+ */
+
+package pai.pract10.randomwalks.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pai.pract10.randomwalks.model.ConcurrentOccupancyGrid;
+import pai.pract10.randomwalks.model.OccupancyGrid;
+import pai.pract10.randomwalks.model.OffHeapOccupancyGrid;
+import pai.pract10.randomwalks.model.PackedOccupancyGrid;
+import pai.pract10.randomwalks.model.RandomAlgorithms;
+import pai.pract10.randomwalks.model.RandomStream;
+import pai.pract10.randomwalks.model.SparseOccupancyGrid;
+
+/**
+ * Class which measures the cost of the lookups of the occupancy grids. It was
+ * created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OccupancyBenchmark {
+
+	/** Side of the space of the grids. */
+	private static final int	SIZE				= 8192;
+	/** Amount of looked up positions per invocation. */
+	private static final int	LOOKUPS			= 4096;
+	/** Amount of occupied positions. */
+	private static final int	OCCUPIED		= 1 << 20;
+	/** Type of the occupancy grid. */
+	@Param({ "packed", "offheap", "concurrent", "sparse" })
+	public String							grid;
+	/** Occupancy grid to look up. */
+	private OccupancyGrid			occupancy;
+	/** Rows of the looked up positions. */
+	private int[]							rows;
+	/** Columns of the looked up positions. */
+	private int[]							columns;
+
+	/**
+	 * Creates the grid, occupies random positions and chooses the positions to
+	 * look up.
+	 */
+	@Setup
+	public void setUp() {
+		if (grid.equals("packed")) {
+			occupancy = new PackedOccupancyGrid(SIZE, SIZE);
+		} else if (grid.equals("offheap")) {
+			occupancy = new OffHeapOccupancyGrid(SIZE, SIZE);
+		} else if (grid.equals("concurrent")) {
+			occupancy = new ConcurrentOccupancyGrid(SIZE, SIZE);
+		} else {
+			occupancy = new SparseOccupancyGrid(SIZE, SIZE);
+		}
+		RandomStream random = new RandomStream(RandomAlgorithms.DEFAULT, 42, 0);
+		for (int i = 0; i < OCCUPIED; ++i) {
+			occupancy.occupy(random.nextInt(SIZE), random.nextInt(SIZE));
+		}
+		rows = new int[LOOKUPS];
+		columns = new int[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; ++i) {
+			rows[i] = random.nextInt(SIZE);
+			columns[i] = random.nextInt(SIZE);
+		}
+	}
+
+	/**
+	 * Looks up LOOKUPS positions.
+	 *
+	 * @return Amount of occupied positions found.
+	 */
+	@Benchmark
+	@OperationsPerInvocation(LOOKUPS)
+	public int isOccupied() {
+		int found = 0;
+		for (int i = 0; i < LOOKUPS; ++i) {
+			if (occupancy.isOccupied(rows[i], columns[i])) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,55 @@
+/**
+ * File containing the RandomWalksBenchmarks entity definition.
+ */
+
+package pai.pract10.randomwalks.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Class which runs the benchmarks of the RandomWalks program with the GC
+ * profiler, so the allocation rate of each benchmark is recorded, and writes
+ * the results as JSON to compare them between releases. The usual JMH command
+ * line options can be given, for example a regular expression to select the
+ * benchmarks. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class RandomWalksBenchmarks {
+
+	/** File where the results are written when no other is given. */
+	private static final String DEFAULT_RESULTS = "bench-results.json";
+
+	/**
+	 * Main method.
+	 *
+	 * @param args
+	 *          JMH command line options.
+	 * @throws RunnerException If a benchmark fails.
+	 * @throws CommandLineOptionException If the options are not valid.
+	 */
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(commandLineOptions);
+		if (commandLineOptions.getIncludes().isEmpty()) {
+			builder.include(RandomWalksBenchmarks.class.getPackage().getName() + ".*Benchmark");
+		}
+		Options options = builder
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result(commandLineOptions.getResult().orElse(DEFAULT_RESULTS))
+				.build();
+		new Runner(options).run();
+	}
+}
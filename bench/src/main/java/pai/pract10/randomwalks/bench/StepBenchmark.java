@@ -0,0 +1,114 @@
+/**
+ * File containing the StepBenchmark entity definition.
+ */
+
+package pai.pract10.randomwalks.bench;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import pai.pract10.randomwalks.model.OccupancyGrids;
+import pai.pract10.randomwalks.model.RandomAlgorithms;
+import pai.pract10.randomwalks.model.RandomStream;
+import pai.pract10.randomwalks.model.RandomWalk;
+
+/**
+ * Class which measures the cost of a single step of a random walk. A random
+ * walk without collisions traps itself after a few dozen steps, so it is
+ * created again from the middle of an empty space whenever it finishes, and
+ * every measured call steps a random walk which can move. It was created for
+ * the tenth practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StepBenchmark {
+
+	/** Side of the space that wraps the random walk. */
+	private static final int	SIZE	= 1 << 20;
+	/** Seed of the random numbers stream of the random walk. */
+	private static final long	SEED	= 42;
+	/** Establishes if the collisions between random walks are allowed. */
+	@Param({ "true", "false" })
+	public boolean						allowCollisions;
+	/** Random numbers stream shared by the random walks created in an iteration. */
+	private RandomStream			randomStream;
+	/** Random walk to step. */
+	private RandomWalk				randomWalk;
+
+	/**
+	 * Creates the random numbers stream and the first random walk before each
+	 * iteration.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		randomStream = new RandomStream(RandomAlgorithms.DEFAULT, SEED, 0);
+		restart();
+	}
+
+	/**
+	 * Creates a random walk in the middle of an empty space, far from the
+	 * borders, which goes on with the random numbers of the previous one.
+	 */
+	private void restart() {
+		randomWalk = new RandomWalk(SIZE / 2, SIZE / 2, SIZE, SIZE, allowCollisions,
+				allowCollisions ? null : OccupancyGrids.sparse(SIZE, SIZE), randomStream);
+	}
+
+	/**
+	 * Steps the random walk without creating objects. The step which finds it
+	 * trapped creates the next one.
+	 *
+	 * @return True if the random walk has moved.
+	 */
+	@Benchmark
+	public boolean step() {
+		if (randomWalk.step()) {
+			return true;
+		}
+		restart();
+		return false;
+	}
+
+	/**
+	 * Steps the random walk through the Point based API. The step which finds it
+	 * trapped creates the next one.
+	 *
+	 * @return New point, null if the random walk was trapped.
+	 */
+	@Benchmark
+	public Point nextPoint() {
+		Point point = randomWalk.nextPoint();
+		if (point == null) {
+			restart();
+		}
+		return point;
+	}
+
+	/**
+	 * Calculates the possible next points of the random walk, which stays on its
+	 * starting position.
+	 *
+	 * @return Possible next points.
+	 */
+	@Benchmark
+	public ArrayList<Point> getPossibleNextPoints() {
+		return randomWalk.getPossibleNextPoints();
+	}
+}
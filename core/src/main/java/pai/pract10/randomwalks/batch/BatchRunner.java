@@ -0,0 +1,304 @@
+/**
+ * File containing the BatchRunner entity definition.
+ */
+
+package pai.pract10.randomwalks.batch;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import pai.pract10.randomwalks.checkpoint.Checkpointer;
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomAlgorithms;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+import pai.pract10.randomwalks.model.SeedingDistribution;
+import pai.pract10.randomwalks.statistics.WalkStatistics;
+import pai.pract10.randomwalks.trajectory.TrajectoryRecorder;
+
+/**
+ * Class which runs a simulation of the RandomWalks program without GUI. The
+ * model is stepped as fast as possible, until the given steps are done or every
+ * random walk has finished, and the throughput is printed at the end. It was
+ * created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class BatchRunner {
+
+	/** Index of the random numbers stream used to place the random walks. */
+	private static final long	SEEDING_STREAM	= -1;
+	/** Usage message of the program. */
+	private static final String	USAGE						= "Usage: BatchRunner [--rows N] [--columns N] [--walkers N]"
+			+ " [--collisions true|false] [--seed N] [--steps N] [--threads N]"
+			+ " [--random splitmix|xoshiro256|pcg] [--distribution uniform|gaussian|unique] [--output FILE]"
+			+ " [--record FILE] [--checkpoint FILE] [--checkpoint-interval N] [--resume FILE]"
+			+ " [--statistics true|false]";
+	/** Amount of rows of the space that wraps the random walks. */
+	private int									rows;
+	/** Amount of columns of the space that wraps the random walks. */
+	private int									columns;
+	/** Amount of random walks. */
+	private int									walkers;
+	/** Establishes if the collisions between random walks are allowed. */
+	private boolean							allowCollisions;
+	/** Master seed of the simulation. */
+	private long								seed;
+	/** Maximum amount of iterations to simulate. */
+	private long								steps;
+	/** Amount of threads used to step the random walks. */
+	private int									threads;
+	/** Name of the random numbers generator algorithm. */
+	private String							randomAlgorithm;
+	/** Name of the distribution of the starting positions. */
+	private String							distribution;
+	/** File where the final points are written, null to skip it. */
+	private String							output;
+	/** File where the trajectories are recorded, null to skip it. */
+	private String							record;
+	/** File where the checkpoints are saved, null to skip them. */
+	private String							checkpoint;
+	/** Amount of iterations between two checkpoints. */
+	private long								checkpointInterval;
+	/** File of the checkpoint the simulation is resumed from, null to start it. */
+	private String							resume;
+	/** Establishes if the statistics of the random walks are kept and printed. */
+	private boolean							statistics;
+
+	/**
+	 * Default constructor. Establishes the default configuration.
+	 */
+	public BatchRunner() {
+		rows = 1000;
+		columns = 1000;
+		walkers = 1000;
+		allowCollisions = true;
+		seed = 0;
+		steps = 1000;
+		threads = 1;
+		randomAlgorithm = RandomAlgorithms.DEFAULT.getName();
+		distribution = SeedingDistribution.UNIFORM.getName();
+		output = null;
+		record = null;
+		checkpoint = null;
+		checkpointInterval = 1000;
+		resume = null;
+		statistics = false;
+	}
+
+	/**
+	 * Reads the configuration from the command line arguments.
+	 *
+	 * @param args Arguments given to the program, as pairs of option and value.
+	 */
+	public void parseArguments(String[] args) {
+		if (args.length % 2 != 0) {
+			throw new IllegalArgumentException("Missing value for option " + args[args.length - 1]);
+		}
+		for (int i = 0; i < args.length; i += 2) {
+			String value = args[i + 1];
+			if (args[i].equals("--rows")) {
+				rows = Integer.parseInt(value);
+			} else if (args[i].equals("--columns")) {
+				columns = Integer.parseInt(value);
+			} else if (args[i].equals("--walkers")) {
+				walkers = Integer.parseInt(value);
+			} else if (args[i].equals("--collisions")) {
+				allowCollisions = Boolean.parseBoolean(value);
+			} else if (args[i].equals("--seed")) {
+				seed = Long.parseLong(value);
+			} else if (args[i].equals("--steps")) {
+				steps = Long.parseLong(value);
+			} else if (args[i].equals("--threads")) {
+				threads = Integer.parseInt(value);
+			} else if (args[i].equals("--random")) {
+				randomAlgorithm = value;
+			} else if (args[i].equals("--distribution")) {
+				distribution = value;
+			} else if (args[i].equals("--output")) {
+				output = value;
+			} else if (args[i].equals("--record")) {
+				record = value;
+			} else if (args[i].equals("--checkpoint")) {
+				checkpoint = value;
+			} else if (args[i].equals("--checkpoint-interval")) {
+				checkpointInterval = Long.parseLong(value);
+			} else if (args[i].equals("--resume")) {
+				resume = value;
+			} else if (args[i].equals("--statistics")) {
+				statistics = Boolean.parseBoolean(value);
+			} else {
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		if (rows < 1 || columns < 1 || walkers < 1 || steps < 0 || threads < 1 || checkpointInterval < 1) {
+			throw new IllegalArgumentException("Wrong configuration.");
+		}
+	}
+
+	/**
+	 * Creates the model and places the random walks at random, following the
+	 * chosen distribution. When the collisions are not allowed the occupied
+	 * starting positions are skipped, so there can be less random walks than
+	 * requested. When a checkpoint is resumed the model is restored from it
+	 * instead, and only the amount of threads is taken from the configuration.
+	 *
+	 * @return New model.
+	 * @throws IOException If the checkpoint can not be read.
+	 */
+	public RandomWalksModel createModel() throws IOException {
+		if (resume != null) {
+			RandomWalksModel model = RandomWalksModel.fromSnapshot(Checkpointer.read(Paths.get(resume)));
+			model.setParallelism(threads);
+			return model;
+		}
+		RandomWalksModel model = new RandomWalksModel(rows, columns, allowCollisions, seed, walkers);
+		model.setRandomAlgorithm(RandomAlgorithms.forName(randomAlgorithm));
+		model.setParallelism(threads);
+		model.addRandomWalks(walkers, SeedingDistribution.forName(distribution),
+				model.createRandomStream(SEEDING_STREAM));
+		return model;
+	}
+
+	/**
+	 * Runs the simulation and prints its throughput. The steps are counted from
+	 * the start of the simulation, so a resumed one only does the remaining
+	 * ones. The throughput only covers the steps; closing the trajectories and
+	 * writing the final checkpoint are timed apart.
+	 *
+	 * @param out Stream where the results are printed.
+	 * @throws IOException If the final points, the trajectories or the
+	 *           checkpoints can not be written.
+	 */
+	public void run(PrintStream out) throws IOException {
+		RandomWalksModel model = createModel();
+		TrajectoryRecorder recorder = null;
+		if (record != null) {
+			recorder = new TrajectoryRecorder(Paths.get(record), model);
+			model.addIterationListener(recorder);
+		}
+		Checkpointer checkpointer = null;
+		if (checkpoint != null) {
+			checkpointer = new Checkpointer(Paths.get(checkpoint), checkpointInterval, model);
+			model.addIterationListener(checkpointer);
+		}
+		WalkStatistics walkStatistics = null;
+		if (statistics) {
+			walkStatistics = new WalkStatistics(model);
+			model.addIterationListener(walkStatistics);
+		}
+		long movedSteps = 0;
+		long iterations = 0;
+		long start = System.nanoTime();
+		while (model.getIterations() < steps && !model.isTerminated()) {
+			MoveBatch moves = model.calculateNextMoves();
+			iterations++;
+			movedSteps += moves.size();
+		}
+		final long ELAPSED = System.nanoTime() - start;
+		long recorderClosing = 0;
+		if (recorder != null) {
+			final long CLOSING_START = System.nanoTime();
+			recorder.close();
+			recorderClosing = System.nanoTime() - CLOSING_START;
+		}
+		long checkpointerClosing = 0;
+		if (checkpointer != null) {
+			final long CLOSING_START = System.nanoTime();
+			checkpointer.checkpoint(model);
+			checkpointer.close();
+			checkpointerClosing = System.nanoTime() - CLOSING_START;
+		}
+		model.setParallelism(1);
+		double seconds = Math.max(ELAPSED, 1) / 1e9;
+		out.printf("Random walks: %d%n", model.getAmountOfRandomWalks());
+		out.printf("Iterations: %d (%d in total)%n", iterations, model.getIterations());
+		out.printf("Active random walks: %d%n", model.getAmountOfActiveWalkers());
+		out.printf("Steps: %d%n", movedSteps);
+		out.printf("Time: %.3f s%n", seconds);
+		if (recorder != null) {
+			out.printf("Trajectories closing: %.3f s%n", recorderClosing / 1e9);
+		}
+		if (checkpointer != null) {
+			out.printf("Final checkpoint: %.3f s%n", checkpointerClosing / 1e9);
+		}
+		out.printf("Throughput: %.0f steps/s (%.0f iterations/s)%n", movedSteps / seconds, iterations / seconds);
+		if (walkStatistics != null) {
+			printStatistics(out, walkStatistics);
+		}
+		if (output != null) {
+			writeFinalPoints(model);
+		}
+	}
+
+	/**
+	 * Prints the statistics of the random walks.
+	 *
+	 * @param out Stream where the statistics are printed.
+	 * @param walkStatistics Statistics kept during the simulation.
+	 */
+	private void printStatistics(PrintStream out, WalkStatistics walkStatistics) {
+		WalkStatistics.RunningStatistics survivalTimes = walkStatistics.getSurvivalTimes();
+		WalkStatistics.RunningStatistics finalDistances = walkStatistics.getFinalDistances();
+		out.printf("Mean squared displacement: %.3f%n", walkStatistics.getMeanSquaredDisplacement());
+		out.printf("End-to-end distance: mean %.3f, median <= %d, 90%% <= %d%n", walkStatistics.getMeanDistance(),
+				walkStatistics.getDistancePercentile(0.5), walkStatistics.getDistancePercentile(0.9));
+		out.printf("Radius of gyration (RMS): %.3f%n", walkStatistics.getGyrationRadius());
+		out.printf("Survivors: %d of %d%n", walkStatistics.getAmountOfSurvivors(),
+				walkStatistics.getAmountOfRandomWalks());
+		out.printf("Survival time: mean %.3f, std %.3f, min %.0f, max %.0f (%d finished)%n", survivalTimes.getMean(),
+				Math.sqrt(survivalTimes.getVariance()), survivalTimes.getMinimum(), survivalTimes.getMaximum(),
+				survivalTimes.getCount());
+		out.printf("End-to-end distance when finished: mean %.3f, std %.3f%n", finalDistances.getMean(),
+				Math.sqrt(finalDistances.getVariance()));
+		out.printf("Visited cells: %d%n", walkStatistics.getAmountOfVisitedCells());
+	}
+
+	/**
+	 * Writes the last point of each random walk to the output file, as CSV.
+	 *
+	 * @param model Simulated model.
+	 * @throws IOException If the file can not be written.
+	 */
+	private void writeFinalPoints(RandomWalksModel model) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+			writer.write("walker,row,column,finished");
+			writer.newLine();
+			for (int walker = 0; walker < model.getAmountOfRandomWalks(); ++walker) {
+				writer.write(walker + "," + model.getCurrentRow(walker) + ","
+						+ model.getCurrentColumn(walker) + "," + model.isFinished(walker));
+				writer.newLine();
+			}
+		}
+	}
+
+	/**
+	 * Main method.
+	 *
+	 * @param args
+	 *          Arguments given to the program.
+	 */
+	public static void main(String[] args) {
+		BatchRunner runner = new BatchRunner();
+		try {
+			runner.parseArguments(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			System.exit(1);
+		}
+		try {
+			runner.run(System.out);
+		} catch (IOException e) {
+			System.err.println("Can not write the output: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+
+}
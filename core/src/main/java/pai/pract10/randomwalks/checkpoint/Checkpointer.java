@@ -0,0 +1,202 @@
+/**
+ * File containing the Checkpointer entity definition.
+ */
+
+package pai.pract10.randomwalks.checkpoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import pai.pract10.randomwalks.model.IterationListener;
+import pai.pract10.randomwalks.model.ModelSnapshot;
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which saves periodic snapshots of a RandomWalksModel to a file, so a
+ * long simulation can be resumed after a crash with
+ * RandomWalksModel.fromSnapshot(Checkpointer.read(file)). The state is copied
+ * on the thread which simulates and written by a thread of its own, so the
+ * simulation only waits for the copy. A snapshot is written to a temporary
+ * file which then replaces the previous one, so the file always contains a
+ * whole snapshot. When the previous snapshot has not been written yet the next
+ * one is postponed instead of queued. It was created for the tenth practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+ * la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class Checkpointer implements IterationListener, Closeable {
+
+	/** File where the snapshots are saved. */
+	private final Path						file;
+	/** Temporary file where a snapshot is written before replacing the saved one. */
+	private final Path						temporaryFile;
+	/** Amount of iterations between two snapshots. */
+	private final long						interval;
+	/** Thread which writes the snapshots. */
+	private final ExecutorService	writer;
+	/** Write of the last snapshot, null if there has not been any. */
+	private Future<Long>					pendingWrite;
+	/** Iteration of the last snapshot taken. */
+	private long									lastSnapshotIteration;
+	/** Iteration of the last snapshot saved, -1 if there has not been any. */
+	private volatile long					lastSavedIteration;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param file File where the snapshots are saved.
+	 * @param interval Amount of iterations between two snapshots.
+	 * @param model Model whose iterations are counted from.
+	 */
+	public Checkpointer(Path file, long interval, RandomWalksModel model) {
+		if (interval < 1) {
+			throw new IllegalArgumentException("Wrong checkpoint interval: " + interval);
+		}
+		this.file = file;
+		this.interval = interval;
+		temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+		lastSnapshotIteration = model.getIterations();
+		lastSavedIteration = -1;
+		writer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, "RandomWalks checkpoint");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	/**
+	 * Takes a snapshot when the interval has passed since the last one and it
+	 * has already been written.
+	 *
+	 * @param model Model which has done the iteration.
+	 * @param moves Moves and finished random walks of the iteration.
+	 * @throws UncheckedIOException If the last snapshot could not be written.
+	 */
+	@Override
+	public void iterationDone(RandomWalksModel model, MoveBatch moves) {
+		if (model.getIterations() - lastSnapshotIteration >= interval
+				&& (pendingWrite == null || pendingWrite.isDone())) {
+			try {
+				checkpoint(model);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Takes a snapshot of a model and starts writing it.
+	 *
+	 * @param model Model to save.
+	 * @throws IOException If the last snapshot could not be written.
+	 */
+	public void checkpoint(RandomWalksModel model) throws IOException {
+		waitForPendingWrite();
+		final ModelSnapshot SNAPSHOT = model.createSnapshot();
+		lastSnapshotIteration = SNAPSHOT.getIterations();
+		pendingWrite = writer.submit(new Callable<Long>() {
+			@Override
+			public Long call() throws IOException {
+				write(SNAPSHOT);
+				lastSavedIteration = SNAPSHOT.getIterations();
+				return SNAPSHOT.getIterations();
+			}
+		});
+	}
+
+	/**
+	 * Writes a snapshot to the temporary file and moves it to the file.
+	 *
+	 * @param snapshot Snapshot to write.
+	 * @throws IOException If the snapshot can not be written.
+	 */
+	private void write(ModelSnapshot snapshot) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+			snapshot.writeTo(out);
+		}
+		Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Waits until the last snapshot has been written.
+	 *
+	 * @throws IOException If it could not be written.
+	 */
+	private void waitForPendingWrite() throws IOException {
+		if (pendingWrite == null) {
+			return;
+		}
+		try {
+			pendingWrite.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while writing a checkpoint.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException) {
+				throw (IOException) e.getCause();
+			}
+			throw new IOException(e.getCause());
+		} finally {
+			pendingWrite = null;
+		}
+	}
+
+	/**
+	 * Getter method for lastSavedIteration attribute.
+	 *
+	 * @return Iteration of the last snapshot saved, -1 if there has not been any.
+	 */
+	public long getLastSavedIteration() {
+		return lastSavedIteration;
+	}
+
+	/**
+	 * Waits until the last snapshot has been written and stops the writing
+	 * thread.
+	 *
+	 * @throws IOException If the last snapshot could not be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			waitForPendingWrite();
+		} finally {
+			writer.shutdown();
+		}
+	}
+
+	/**
+	 * Reads the snapshot saved in a file.
+	 *
+	 * @param file File where the snapshot was saved.
+	 * @return Read snapshot.
+	 * @throws IOException If the file can not be read or is not a snapshot.
+	 */
+	public static ModelSnapshot read(Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			return ModelSnapshot.readFrom(in);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+/**
+ * File containing the CellVisitor entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents an action performed on the positions of an
+ * occupancy grid. It was created for the tenth practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface CellVisitor {
+
+	/**
+	 * Visits a position.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 */
+	void visit(int row, int column);
+}
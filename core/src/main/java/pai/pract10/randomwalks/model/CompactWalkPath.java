@@ -0,0 +1,144 @@
+/**
+ * File containing the CompactWalkPath entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents a walk path stored as its starting point followed by
+ * the 2 bits direction code of each step, 32 codes per long. A step takes 1/32
+ * of the memory of a point stored as two ints. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class CompactWalkPath implements WalkPath {
+
+	/** Bits of a direction code. */
+	private static final int	CODE_BITS				= 2;
+	/** Direction codes stored in a long. */
+	private static final int	CODES_PER_WORD	= Long.SIZE / CODE_BITS;
+	/** Mask of a direction code. */
+	private static final long	CODE_MASK				= (1L << CODE_BITS) - 1;
+	/** Initial amount of longs of the path. */
+	private static final int	INITIAL_WORDS		= 2;
+	/** Row of the first point. */
+	private final int					startRow;
+	/** Column of the first point. */
+	private final int					startColumn;
+	/** Row of the last point. */
+	private int								lastRow;
+	/** Column of the last point. */
+	private int								lastColumn;
+	/** Direction codes of the steps. */
+	private long[]						codes;
+	/** Amount of steps. */
+	private int								steps;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param startRow Row of the first point.
+	 * @param startColumn Column of the first point.
+	 */
+	public CompactWalkPath(int startRow, int startColumn) {
+		this.startRow = lastRow = startRow;
+		this.startColumn = lastColumn = startColumn;
+		codes = new long[INITIAL_WORDS];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#addPoint(int, int)
+	 */
+	@Override
+	public void addPoint(int row, int column) {
+		final int DIRECTION = WalkStepper.directionBetween(lastRow, lastColumn, row, column);
+		final int WORD = steps / CODES_PER_WORD;
+		if (WORD == codes.length) {
+			codes = Arrays.copyOf(codes, codes.length * 2);
+		}
+		codes[WORD] |= (long) DIRECTION << ((steps % CODES_PER_WORD) * CODE_BITS);
+		steps++;
+		lastRow = row;
+		lastColumn = column;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getAmountOfPoints()
+	 */
+	@Override
+	public int getAmountOfPoints() {
+		return steps + 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastRow()
+	 */
+	@Override
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastColumn()
+	 */
+	@Override
+	public int getLastColumn() {
+		return lastColumn;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#cursor()
+	 */
+	@Override
+	public PathCursor cursor() {
+		return new PathCursor() {
+			/** Step which leads to the current point, -1 at the first one and -2 before it. */
+			private int	step	= -2;
+			/** Row of the current point. */
+			private int	row		= startRow;
+			/** Column of the current point. */
+			private int	column	= startColumn;
+
+			@Override
+			public boolean next() {
+				if (step + 1 >= steps) {
+					return false;
+				}
+				step++;
+				if (step >= 0) {
+					final int DIRECTION = (int) ((codes[step / CODES_PER_WORD] >>> ((step % CODES_PER_WORD) * CODE_BITS))
+							& CODE_MASK);
+					row += WalkStepper.rowOffset(DIRECTION);
+					column += WalkStepper.columnOffset(DIRECTION);
+				}
+				return true;
+			}
+
+			@Override
+			public int getRow() {
+				return row;
+			}
+
+			@Override
+			public int getColumn() {
+				return column;
+			}
+		};
+	}
+}
@@ -0,0 +1,180 @@
+/**
+ * File containing the ConcurrentOccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class which represents an occupancy grid that can be shared by several
+ * threads. The positions are packed in row-major order as bits of an
+ * AtomicLongArray and they are occupied with a compare-and-set, so two walkers
+ * can never occupy the same position. It was created for the tenth practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+ * la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class ConcurrentOccupancyGrid implements DenseOccupancyGrid {
+
+	/** Amount of rows of the grid. */
+	private final int							rows;
+	/** Amount of columns of the grid. */
+	private final int							columns;
+	/** Bits of the positions, one per position. */
+	private final AtomicLongArray	words;
+
+	/**
+	 * Default constructor. Every position starts free.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 */
+	public ConcurrentOccupancyGrid(int rows, int columns) {
+		this.rows = rows;
+		this.columns = columns;
+		long bits = (long) rows * columns;
+		if ((bits + 63) >>> 6 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too big occupancy grid: " + rows + "x" + columns);
+		}
+		words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+	}
+
+	/**
+	 * Constructor with the words of a packed grid, which are copied.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 * @param words Bits of the positions, one per position in row-major order.
+	 */
+	ConcurrentOccupancyGrid(int rows, int columns, long[] words) {
+		this.rows = rows;
+		this.columns = columns;
+		this.words = new AtomicLongArray(words);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isOccupied(int, int)
+	 */
+	@Override
+	public boolean isOccupied(int row, int column) {
+		long index = (long) row * columns + column;
+		return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#occupy(int, int)
+	 */
+	@Override
+	public boolean occupy(int row, int column) {
+		long index = (long) row * columns + column;
+		int word = (int) (index >>> 6);
+		long bit = 1L << index;
+		long current = words.get(word);
+		while ((current & bit) == 0) {
+			if (words.compareAndSet(word, current, current | bit)) {
+				return true;
+			}
+			current = words.get(word);
+		}
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#forEachOccupied(pai.pract10.randomwalks.model.CellVisitor)
+	 */
+	@Override
+	public void forEachOccupied(CellVisitor visitor) {
+		for (int word = 0; word < words.length(); ++word) {
+			long bits = words.get(word);
+			while (bits != 0) {
+				long index = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+				visitor.visit((int) (index / columns), (int) (index % columns));
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#copy()
+	 */
+	@Override
+	public OccupancyGrid copy() {
+		ConcurrentOccupancyGrid copy = new ConcurrentOccupancyGrid(rows, columns);
+		for (int word = 0; word < words.length(); ++word) {
+			copy.words.lazySet(word, words.get(word));
+		}
+		return copy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isConcurrent()
+	 */
+	@Override
+	public boolean isConcurrent() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWordCount()
+	 */
+	@Override
+	public long getWordCount() {
+		return words.length();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWord(long)
+	 */
+	@Override
+	public long getWord(long word) {
+		return words.get((int) word);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#setWord(long, long)
+	 */
+	@Override
+	public void setWord(long word, long bits) {
+		words.set((int) word, bits);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getRows()
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getColumns()
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+}
@@ -0,0 +1,44 @@
+/**
+ * File containing the DenseOccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents an occupancy grid stored as words of 64 bits, one
+ * bit per position in row-major order from the lowest bit of the first word.
+ * The words can be read and written as they are stored, so a snapshot saves
+ * the grid without enumerating its positions. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+interface DenseOccupancyGrid extends OccupancyGrid {
+
+	/**
+	 * Returns the amount of words of the grid.
+	 *
+	 * @return Amount of words.
+	 */
+	long getWordCount();
+
+	/**
+	 * Returns a word of the grid.
+	 *
+	 * @param word Index of the word.
+	 * @return Bits of the positions of the word.
+	 */
+	long getWord(long word);
+
+	/**
+	 * Replaces a word of the grid. It must not be called while other threads use
+	 * the grid.
+	 *
+	 * @param word Index of the word.
+	 * @param bits Bits of the positions of the word.
+	 */
+	void setWord(long word, long bits);
+}
@@ -0,0 +1,28 @@
+/**
+ * File containing the IterationListener entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents an object notified after each iteration of a
+ * RandomWalksModel, for example to record or to measure the simulation. It is
+ * called from the thread which simulates. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface IterationListener {
+
+	/**
+	 * Handles the end of an iteration.
+	 *
+	 * @param model Model which has done the iteration.
+	 * @param moves Moves and finished random walks of the iteration, only valid
+	 *          until the next iteration.
+	 */
+	void iterationDone(RandomWalksModel model, MoveBatch moves);
+}
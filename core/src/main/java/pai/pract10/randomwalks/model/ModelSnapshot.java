@@ -0,0 +1,529 @@
+/**
+ * File containing the ModelSnapshot entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Class which represents a copy of the whole state of a RandomWalksModel at
+ * the end of an iteration: the configuration, the points, previous points,
+ * finished flags and random states of the random walks, the order of the active
+ * ones and the occupied positions. A model restored from it produces the same
+ * iterations as the original one, unless collisions are forbidden and random
+ * walks are stepped in parallel, whose points depend on the order of the
+ * threads anyway. It is taken on the thread which simulates by copying the
+ * primitive arrays of the random walks, and it does not change afterwards.
+ * The occupied positions are kept as a copy shared with other snapshots and
+ * the positions occupied after it, which are joined in a grid of its own the
+ * first time it is needed, so that work and the writing can be done from
+ * another thread. It was created for the tenth practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class ModelSnapshot {
+	/**
+	 * Auxiliary class created to write many primitive values to a DataOutput in
+	 * blocks, instead of one call per byte. It was created for the tenth
+	 * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+	 * (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	static class BlockWriter {
+		/** Size of a block. */
+		private static final int	BLOCK_SIZE	= 1 << 16;
+		/** Output where the blocks are written. */
+		private final DataOutput	out;
+		/** Current block, big-endian as the DataOutput. */
+		private final ByteBuffer	block;
+
+		/**
+		 * Default constructor.
+		 *
+		 * @param out Output where the blocks are written.
+		 */
+		BlockWriter(DataOutput out) {
+			this.out = out;
+			block = ByteBuffer.allocate(BLOCK_SIZE);
+		}
+
+		/**
+		 * Adds an int to the block.
+		 *
+		 * @param value Value to write.
+		 * @throws IOException If the full block can not be written.
+		 */
+		void putInt(int value) throws IOException {
+			if (block.remaining() < Integer.BYTES) {
+				flush();
+			}
+			block.putInt(value);
+		}
+
+		/**
+		 * Adds a long to the block.
+		 *
+		 * @param value Value to write.
+		 * @throws IOException If the full block can not be written.
+		 */
+		void putLong(long value) throws IOException {
+			if (block.remaining() < Long.BYTES) {
+				flush();
+			}
+			block.putLong(value);
+		}
+
+		/**
+		 * Adds a byte to the block.
+		 *
+		 * @param value Value to write.
+		 * @throws IOException If the full block can not be written.
+		 */
+		void putByte(byte value) throws IOException {
+			if (!block.hasRemaining()) {
+				flush();
+			}
+			block.put(value);
+		}
+
+		/**
+		 * Adds a boolean to the block, as a byte.
+		 *
+		 * @param value Value to write.
+		 * @throws IOException If the full block can not be written.
+		 */
+		void putBoolean(boolean value) throws IOException {
+			if (!block.hasRemaining()) {
+				flush();
+			}
+			block.put((byte) (value ? 1 : 0));
+		}
+
+		/**
+		 * Writes the current block.
+		 *
+		 * @throws IOException If the block can not be written.
+		 */
+		void flush() throws IOException {
+			out.write(block.array(), 0, block.position());
+			block.clear();
+		}
+	}
+
+
+	/** Magic number of the snapshot files, "RWCK" in ASCII. */
+	public static final int			MAGIC		= 0x5257434B;
+	/** Version of the format of the snapshot files. */
+	public static final int			VERSION	= 2;
+	/** Layout of the occupied positions when the collisions are allowed and there are not any. */
+	private static final byte		NO_OCCUPANCY		= 0;
+	/** Layout of the occupied positions stored as the words of a dense grid. */
+	private static final byte		DENSE_OCCUPANCY		= 1;
+	/** Layout of the occupied positions stored as the tiles of a sparse grid. */
+	private static final byte		SPARSE_OCCUPANCY	= 2;
+	/** Amount of rows of the space. */
+	private final int						rows;
+	/** Amount of columns of the space. */
+	private final int						columns;
+	/** Establishes if the collisions between random walks are allowed. */
+	private final boolean				allowCollisions;
+	/** Master seed of the random numbers streams. */
+	private final long					seed;
+	/** Algorithm of the random numbers streams. */
+	private final RandomAlgorithm	randomAlgorithm;
+	/** Amount of iterations done by the model. */
+	private final long					iterations;
+	/** Random walks of the model. */
+	private final WalkerStore		randomWalks;
+	/** Indexes of the random walks which have not finished, in the order of the model. */
+	private final int[]					activeWalkers;
+	/** Copy of the occupied positions shared with other snapshots, null when the collisions are allowed. */
+	private final OccupancyGrid	occupancyBase;
+	/** Positions occupied after occupancyBase, as row * columns + column. */
+	private final long[]				occupiedPositions;
+	/** Occupied positions, null until they are built. */
+	private volatile OccupancyGrid	occupancy;
+	/** Establishes if nothing else uses the occupied positions, as when the snapshot is read. */
+	private boolean							ownsOccupancy;
+	/** Establishes if the occupied positions have been handed to a restored model. */
+	private boolean							occupancyHandedOver;
+
+	/**
+	 * Default constructor. It takes ownership of the given objects, which must
+	 * not be changed afterwards.
+	 *
+	 * @param model Model whose configuration is copied.
+	 * @param randomWalks Copy of the random walks.
+	 * @param activeWalkers Copy of the active random walks.
+	 * @param occupancyBase Copy of the occupied positions which is never changed, null when the collisions are allowed.
+	 * @param occupiedPositions Positions occupied after occupancyBase, as row * columns + column.
+	 */
+	ModelSnapshot(RandomWalksModel model, WalkerStore randomWalks, int[] activeWalkers, OccupancyGrid occupancyBase,
+			long[] occupiedPositions) {
+		this(model.getRows(), model.getColumns(), model.isAllowCollisions(), model.getSeed(),
+				model.getRandomAlgorithm(), model.getIterations(), randomWalks, activeWalkers, occupancyBase,
+				occupiedPositions);
+	}
+
+	/**
+	 * Constructor with every attribute.
+	 *
+	 * @param rows Amount of rows of the space.
+	 * @param columns Amount of columns of the space.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param seed Master seed of the random numbers streams.
+	 * @param randomAlgorithm Algorithm of the random numbers streams.
+	 * @param iterations Amount of iterations done by the model.
+	 * @param randomWalks Random walks of the model.
+	 * @param activeWalkers Indexes of the random walks which have not finished.
+	 * @param occupancyBase Copy of the occupied positions, null when the collisions are allowed.
+	 * @param occupiedPositions Positions occupied after occupancyBase, null when the collisions are allowed.
+	 */
+	private ModelSnapshot(int rows, int columns, boolean allowCollisions, long seed, RandomAlgorithm randomAlgorithm,
+			long iterations, WalkerStore randomWalks, int[] activeWalkers, OccupancyGrid occupancyBase,
+			long[] occupiedPositions) {
+		this.rows = rows;
+		this.columns = columns;
+		this.allowCollisions = allowCollisions;
+		this.seed = seed;
+		this.randomAlgorithm = randomAlgorithm;
+		this.iterations = iterations;
+		this.randomWalks = randomWalks;
+		this.activeWalkers = activeWalkers;
+		this.occupancyBase = occupancyBase;
+		this.occupiedPositions = occupiedPositions;
+		if (occupancyBase != null && occupiedPositions.length == 0) {
+			occupancy = occupancyBase;
+		}
+	}
+
+	/**
+	 * Writes the snapshot. Every value is big-endian. The occupied positions are
+	 * written as they are stored, after a byte with their layout: the amount of
+	 * words (long) and the words (longs) of a dense grid, or the amount of tiles
+	 * (int) and, for each one, its key (long) and its rows (longs) of a sparse
+	 * grid.
+	 *
+	 * @param out Output where the snapshot is written.
+	 * @throws IOException If the snapshot can not be written.
+	 * @throws IllegalStateException If the occupied positions have been handed to a restored model.
+	 */
+	public void writeTo(DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(rows);
+		out.writeInt(columns);
+		out.writeBoolean(allowCollisions);
+		out.writeLong(seed);
+		out.writeUTF(randomAlgorithm.getName());
+		out.writeLong(iterations);
+		out.writeInt(randomWalks.size());
+		BlockWriter writer = new BlockWriter(out);
+		for (int walker = 0; walker < randomWalks.size(); ++walker) {
+			writer.putInt(randomWalks.getCurrentRow(walker));
+			writer.putInt(randomWalks.getCurrentColumn(walker));
+			writer.putInt(randomWalks.getOldRow(walker));
+			writer.putInt(randomWalks.getOldColumn(walker));
+			writer.putBoolean(randomWalks.isFinished(walker));
+		}
+		final int STATE_LENGTH = randomWalks.size() * randomWalks.getRandomStateLength();
+		long[] randomStates = randomWalks.getRandomStates();
+		for (int i = 0; i < STATE_LENGTH; ++i) {
+			writer.putLong(randomStates[i]);
+		}
+		writer.putInt(activeWalkers.length);
+		for (int position = 0; position < activeWalkers.length; ++position) {
+			writer.putInt(activeWalkers[position]);
+		}
+		final OccupancyGrid OCCUPANCY = getOccupancy();
+		if (OCCUPANCY instanceof SparseOccupancyGrid) {
+			TileMap tiles = ((SparseOccupancyGrid) OCCUPANCY).getTiles();
+			writer.putByte(SPARSE_OCCUPANCY);
+			writer.putInt(tiles.size());
+			for (int slot = 0; slot < tiles.capacity(); ++slot) {
+				if (tiles.keyAt(slot) != TileMap.EMPTY_KEY) {
+					writer.putLong(tiles.keyAt(slot));
+					for (long bits : tiles.tileAt(slot)) {
+						writer.putLong(bits);
+					}
+				}
+			}
+		} else if (OCCUPANCY != null) {
+			DenseOccupancyGrid grid = (DenseOccupancyGrid) OCCUPANCY;
+			writer.putByte(DENSE_OCCUPANCY);
+			writer.putLong(grid.getWordCount());
+			for (long word = 0; word < grid.getWordCount(); ++word) {
+				writer.putLong(grid.getWord(word));
+			}
+		} else {
+			writer.putByte(NO_OCCUPANCY);
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Reads a snapshot written by writeTo.
+	 *
+	 * @param in Input where the snapshot is read.
+	 * @return Read snapshot.
+	 * @throws IOException If the snapshot can not be read or is not valid.
+	 */
+	public static ModelSnapshot readFrom(DataInput in) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a snapshot of a RandomWalks model.");
+		}
+		final int VERSION_READ = in.readInt();
+		if (VERSION_READ != VERSION) {
+			throw new IOException("Unsupported snapshot version: " + VERSION_READ);
+		}
+		final int ROWS = in.readInt();
+		final int COLUMNS = in.readInt();
+		final boolean ALLOW_COLLISIONS = in.readBoolean();
+		final long SEED = in.readLong();
+		final RandomAlgorithm ALGORITHM;
+		try {
+			ALGORITHM = RandomAlgorithms.forName(in.readUTF());
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+		final long ITERATIONS = in.readLong();
+		final int WALKERS = in.readInt();
+		WalkerStore randomWalks = new WalkerStore(ALGORITHM.getStateLength());
+		for (int walker = 0; walker < WALKERS; ++walker) {
+			randomWalks.add(in.readInt(), in.readInt());
+			randomWalks.setOldPoint(walker, in.readInt(), in.readInt());
+			if (in.readBoolean()) {
+				randomWalks.setFinished(walker);
+			}
+		}
+		final int STATE_LENGTH = WALKERS * ALGORITHM.getStateLength();
+		long[] randomStates = randomWalks.getRandomStates();
+		for (int i = 0; i < STATE_LENGTH; ++i) {
+			randomStates[i] = in.readLong();
+		}
+		int[] activeWalkers = new int[in.readInt()];
+		for (int position = 0; position < activeWalkers.length; ++position) {
+			activeWalkers[position] = in.readInt();
+			if (activeWalkers[position] < 0 || activeWalkers[position] >= WALKERS) {
+				throw new IOException("Wrong active random walk: " + activeWalkers[position]);
+			}
+		}
+		final OccupancyGrid OCCUPANCY = readOccupancy(in, ROWS, COLUMNS);
+		if ((OCCUPANCY == null) != ALLOW_COLLISIONS) {
+			throw new IOException("The occupied positions do not match the collision mode.");
+		}
+		ModelSnapshot snapshot = new ModelSnapshot(ROWS, COLUMNS, ALLOW_COLLISIONS, SEED, ALGORITHM, ITERATIONS,
+				randomWalks, activeWalkers, OCCUPANCY, OCCUPANCY == null ? null : new long[0]);
+		snapshot.ownsOccupancy = true;
+		return snapshot;
+	}
+
+	/**
+	 * Reads the occupied positions written by writeTo, in a grid with the same
+	 * layout.
+	 *
+	 * @param in Input where the occupied positions are read.
+	 * @param rows Amount of rows of the space.
+	 * @param columns Amount of columns of the space.
+	 * @return Occupied positions, null if there are not any.
+	 * @throws IOException If they can not be read or are not valid.
+	 */
+	private static OccupancyGrid readOccupancy(DataInput in, int rows, int columns) throws IOException {
+		final byte LAYOUT = in.readByte();
+		if (LAYOUT == NO_OCCUPANCY) {
+			return null;
+		}
+		if (LAYOUT == SPARSE_OCCUPANCY) {
+			SparseOccupancyGrid grid = (SparseOccupancyGrid) OccupancyGrids.sparse(rows, columns);
+			final int TILES = in.readInt();
+			final long TILE_ROWS = ((long) rows + SparseOccupancyGrid.TILE_SIDE - 1) >> SparseOccupancyGrid.TILE_SHIFT;
+			final long TILE_COLUMNS = ((long) columns + SparseOccupancyGrid.TILE_SIDE - 1) >> SparseOccupancyGrid.TILE_SHIFT;
+			for (int i = 0; i < TILES; ++i) {
+				final long KEY = in.readLong();
+				if ((KEY >> 32) < 0 || (KEY >> 32) >= TILE_ROWS || (int) KEY < 0 || (int) KEY >= TILE_COLUMNS) {
+					throw new IOException("Wrong occupied tile: (" + (KEY >> 32) + ", " + (int) KEY + ")");
+				}
+				long[] tile = grid.getTiles().getOrCreate(KEY, SparseOccupancyGrid.TILE_SIDE);
+				for (int row = 0; row < tile.length; ++row) {
+					tile[row] = in.readLong();
+				}
+			}
+			return grid;
+		}
+		if (LAYOUT != DENSE_OCCUPANCY) {
+			throw new IOException("Wrong layout of the occupied positions: " + LAYOUT);
+		}
+		DenseOccupancyGrid grid = (DenseOccupancyGrid) OccupancyGrids.dense(rows, columns);
+		if (in.readLong() != grid.getWordCount()) {
+			throw new IOException("The occupied positions do not match the space.");
+		}
+		final byte[] BLOCK = new byte[BlockWriter.BLOCK_SIZE];
+		final ByteBuffer WORDS = ByteBuffer.wrap(BLOCK);
+		long word = 0;
+		while (word < grid.getWordCount()) {
+			final int AMOUNT = (int) Math.min(BLOCK.length / Long.BYTES, grid.getWordCount() - word);
+			in.readFully(BLOCK, 0, AMOUNT * Long.BYTES);
+			WORDS.clear();
+			for (int i = 0; i < AMOUNT; ++i) {
+				grid.setWord(word++, WORDS.getLong());
+			}
+		}
+		return grid;
+	}
+
+	/**
+	 * Getter method for rows attribute.
+	 *
+	 * @return rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter method for columns attribute.
+	 *
+	 * @return columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Getter method for allowCollisions attribute.
+	 *
+	 * @return allowCollisions
+	 */
+	public boolean isAllowCollisions() {
+		return allowCollisions;
+	}
+
+	/**
+	 * Getter method for seed attribute.
+	 *
+	 * @return seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Getter method for randomAlgorithm attribute.
+	 *
+	 * @return randomAlgorithm
+	 */
+	public RandomAlgorithm getRandomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	/**
+	 * Getter method for iterations attribute.
+	 *
+	 * @return iterations
+	 */
+	public long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Returns the amount of random walks of the snapshot.
+	 *
+	 * @return Amount of random walks.
+	 */
+	public int getAmountOfRandomWalks() {
+		return randomWalks.size();
+	}
+
+	/**
+	 * Returns a copy of the random walks, which can be changed.
+	 *
+	 * @return Copy of the random walks.
+	 */
+	WalkerStore copyRandomWalks() {
+		return randomWalks.copy();
+	}
+
+	/**
+	 * Returns a copy of the active random walks, which can be changed.
+	 *
+	 * @return Copy of the active random walks.
+	 */
+	int[] copyActiveWalkers() {
+		return Arrays.copyOf(activeWalkers, activeWalkers.length);
+	}
+
+	/**
+	 * Returns the occupied positions for a model restored from the snapshot,
+	 * which can be changed. The grid of a snapshot which has been read is not
+	 * used by anything else, so it is handed over without being copied, and the
+	 * snapshot can not be restored or written again. Otherwise a copy is
+	 * returned.
+	 *
+	 * @return Occupied positions, null when the collisions are allowed.
+	 * @throws IllegalStateException If the occupied positions have already been handed over.
+	 */
+	synchronized OccupancyGrid takeOccupancy() {
+		if (occupancyBase == null) {
+			return null;
+		}
+		if (ownsOccupancy) {
+			final OccupancyGrid OCCUPANCY = getOccupancy();
+			occupancyHandedOver = true;
+			occupancy = null;
+			return OCCUPANCY;
+		}
+		return getOccupancy().copy();
+	}
+
+	/**
+	 * Returns the occupied positions, joining the copy and the positions
+	 * occupied after it the first time. The returned grid must not be changed.
+	 *
+	 * @return Occupied positions, null when the collisions are allowed.
+	 * @throws IllegalStateException If the occupied positions have been handed to a restored model.
+	 */
+	synchronized OccupancyGrid getOccupancy() {
+		if (occupancyHandedOver) {
+			throw new IllegalStateException("The occupied positions have been handed to a restored model.");
+		}
+		if (occupancy == null && occupancyBase != null) {
+			OccupancyGrid joined = occupancyBase.copy();
+			for (long position : occupiedPositions) {
+				joined.occupy((int) (position / columns), (int) (position % columns));
+			}
+			occupancy = joined;
+		}
+		return occupancy;
+	}
+
+	/**
+	 * Returns the occupied positions if they have already been built.
+	 *
+	 * @return Occupied positions, null if they have not been built yet.
+	 */
+	OccupancyGrid getBuiltOccupancy() {
+		return occupancy;
+	}
+
+	/**
+	 * Returns the amount of positions occupied after the copy of the occupied
+	 * positions the snapshot was taken with.
+	 *
+	 * @return Amount of positions.
+	 */
+	int getAmountOfOccupiedPositions() {
+		return occupiedPositions == null ? 0 : occupiedPositions.length;
+	}
+}
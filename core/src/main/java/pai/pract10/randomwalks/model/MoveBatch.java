@@ -0,0 +1,311 @@
+/**
+ * File containing the MoveBatch entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents the moves done by the random walks during one or more
+ * consecutive iterations, stored in parallel primitive arrays in the order they
+ * were done, and the random walks which finished during them. Only the random
+ * walks which moved are listed, so its size does not depend on the finished
+ * ones. It is used as the result of an iteration of the model and to hand the
+ * moves from the thread which simulates to the thread which draws. A batch
+ * wraps the arrays where its builder accumulated the moves, which may be longer
+ * than its size, so building it copies nothing. A built batch is immutable,
+ * while a transient one shares the arrays its builder goes on writing, and is
+ * only valid until the builder adds the next moves. It was created for the
+ * tenth practice of PAI (Programación de Aplicaciones Interactivas) course of
+ * ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class MoveBatch {
+	/**
+	 * Class which accumulates moves and builds MoveBatch instances from them. It
+	 * is not thread-safe. It was created for the tenth practice of PAI
+	 * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de
+	 * la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	public static final class Builder {
+		/** Initial capacity of the builder. */
+		private static final int	INITIAL_CAPACITY	= 64;
+		/** Walker of each move. */
+		private int[]							walkers;
+		/** Row reached by each move. */
+		private int[]							rows;
+		/** Column reached by each move. */
+		private int[]							columns;
+		/** Amount of accumulated moves. */
+		private int								size;
+		/** Random walks which finished. */
+		private int[]							finished;
+		/** Amount of random walks which finished. */
+		private int								amountOfFinished;
+		/** Amount of accumulated iterations. */
+		private int								iterations;
+
+		/**
+		 * Default constructor.
+		 */
+		public Builder() {
+			walkers = new int[INITIAL_CAPACITY];
+			rows = new int[INITIAL_CAPACITY];
+			columns = new int[INITIAL_CAPACITY];
+			finished = new int[INITIAL_CAPACITY];
+		}
+
+		/**
+		 * Adds a move. The arrays double their capacity when they are full.
+		 *
+		 * @param walker Index of the walker.
+		 * @param row Row reached by the walker.
+		 * @param column Column reached by the walker.
+		 * @return This builder.
+		 */
+		public Builder addMove(int walker, int row, int column) {
+			ensureCapacity(size + 1);
+			walkers[size] = walker;
+			rows[size] = row;
+			columns[size] = column;
+			size++;
+			return this;
+		}
+
+		/**
+		 * Adds a random walk which has finished.
+		 *
+		 * @param walker Index of the walker.
+		 * @return This builder.
+		 */
+		public Builder addFinished(int walker) {
+			if (amountOfFinished == finished.length) {
+				finished = Arrays.copyOf(finished, finished.length * 2);
+			}
+			finished[amountOfFinished++] = walker;
+			return this;
+		}
+
+		/**
+		 * Marks the end of an iteration, after its moves have been added.
+		 *
+		 * @return This builder.
+		 */
+		public Builder endIteration() {
+			iterations++;
+			return this;
+		}
+
+		/**
+		 * Adds the moves, the finished random walks and the iterations of a batch
+		 * after the accumulated ones.
+		 *
+		 * @param batch Batch to add.
+		 * @return This builder.
+		 */
+		public Builder addBatch(MoveBatch batch) {
+			ensureCapacity(size + batch.size());
+			System.arraycopy(batch.walkers, 0, walkers, size, batch.size());
+			System.arraycopy(batch.rows, 0, rows, size, batch.size());
+			System.arraycopy(batch.columns, 0, columns, size, batch.size());
+			size += batch.size();
+			if (amountOfFinished + batch.amountOfFinished > finished.length) {
+				finished = Arrays.copyOf(finished, Math.max(finished.length * 2, amountOfFinished + batch.amountOfFinished));
+			}
+			System.arraycopy(batch.finished, 0, finished, amountOfFinished, batch.amountOfFinished);
+			amountOfFinished += batch.amountOfFinished;
+			iterations += batch.getIterations();
+			return this;
+		}
+
+		/**
+		 * Makes room for a given amount of moves, doubling the capacity of the
+		 * arrays as many times as needed.
+		 *
+		 * @param capacity Amount of moves which must fit.
+		 */
+		private void ensureCapacity(int capacity) {
+			if (capacity <= walkers.length) {
+				return;
+			}
+			int newCapacity = walkers.length * 2;
+			while (newCapacity < capacity) {
+				newCapacity *= 2;
+			}
+			walkers = Arrays.copyOf(walkers, newCapacity);
+			rows = Arrays.copyOf(rows, newCapacity);
+			columns = Arrays.copyOf(columns, newCapacity);
+		}
+
+		/**
+		 * Returns the amount of accumulated moves.
+		 *
+		 * @return Amount of accumulated moves.
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Builds a batch with the accumulated moves and finished random walks and
+		 * empties the builder. The batch takes the arrays of the builder as they
+		 * are, and the builder goes on with new ones as long as the moves it has
+		 * just handed, so a builder which builds batches of a similar size does not
+		 * grow its arrays again.
+		 *
+		 * @return Batch with the accumulated moves.
+		 */
+		public MoveBatch build() {
+			if (size == 0 && amountOfFinished == 0) {
+				return buildTransient();
+			}
+			MoveBatch batch = new MoveBatch(walkers, rows, columns, size, finished, amountOfFinished, iterations);
+			final int CAPACITY = Math.max(INITIAL_CAPACITY, size);
+			walkers = new int[CAPACITY];
+			rows = new int[CAPACITY];
+			columns = new int[CAPACITY];
+			finished = new int[Math.max(INITIAL_CAPACITY, amountOfFinished)];
+			size = 0;
+			amountOfFinished = 0;
+			iterations = 0;
+			return batch;
+		}
+
+		/**
+		 * Builds a batch with the accumulated moves and finished random walks and
+		 * empties the builder, which keeps its arrays and writes the next moves
+		 * over them. Nothing is allocated but the batch itself, so it suits a
+		 * result which is read before the next one is accumulated; a batch which
+		 * must outlive it has to be copied with addBatch() into another builder.
+		 *
+		 * @return Batch with the accumulated moves, valid until the next move or
+		 *         finished random walk is added.
+		 */
+		public MoveBatch buildTransient() {
+			final int ITERATIONS = iterations;
+			iterations = 0;
+			if (size == 0 && amountOfFinished == 0) {
+				return ITERATIONS == 0 ? EMPTY : new MoveBatch(EMPTY.walkers, EMPTY.rows, EMPTY.columns, 0,
+						EMPTY.finished, 0, ITERATIONS);
+			}
+			MoveBatch batch = new MoveBatch(walkers, rows, columns, size, finished, amountOfFinished, ITERATIONS);
+			size = 0;
+			amountOfFinished = 0;
+			return batch;
+		}
+	}
+
+	/** Batch without moves. */
+	public static final MoveBatch	EMPTY	= new MoveBatch(new int[0], new int[0], new int[0], 0, new int[0], 0, 0);
+	/** Walker of each move. */
+	private final int[]						walkers;
+	/** Row reached by each move. */
+	private final int[]						rows;
+	/** Column reached by each move. */
+	private final int[]						columns;
+	/** Amount of moves, which may be less than the length of the arrays. */
+	private final int							size;
+	/** Random walks which finished. */
+	private final int[]						finished;
+	/** Amount of random walks which finished. */
+	private final int							amountOfFinished;
+	/** Amount of iterations the moves belong to. */
+	private final int							iterations;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param walkers Walker of each move.
+	 * @param rows Row reached by each move.
+	 * @param columns Column reached by each move.
+	 * @param size Amount of moves.
+	 * @param finished Random walks which finished.
+	 * @param amountOfFinished Amount of random walks which finished.
+	 * @param iterations Amount of iterations the moves belong to.
+	 */
+	private MoveBatch(int[] walkers, int[] rows, int[] columns, int size, int[] finished, int amountOfFinished,
+			int iterations) {
+		this.walkers = walkers;
+		this.rows = rows;
+		this.columns = columns;
+		this.size = size;
+		this.finished = finished;
+		this.amountOfFinished = amountOfFinished;
+		this.iterations = iterations;
+	}
+
+	/**
+	 * Returns the amount of moves of the batch.
+	 *
+	 * @return Amount of moves.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the walker of a move.
+	 *
+	 * @param move Index of the move.
+	 * @return Index of the walker.
+	 */
+	public int getWalker(int move) {
+		return walkers[move];
+	}
+
+	/**
+	 * Returns the row reached by a move.
+	 *
+	 * @param move Index of the move.
+	 * @return Row reached.
+	 */
+	public int getRow(int move) {
+		return rows[move];
+	}
+
+	/**
+	 * Returns the column reached by a move.
+	 *
+	 * @param move Index of the move.
+	 * @return Column reached.
+	 */
+	public int getColumn(int move) {
+		return columns[move];
+	}
+
+	/**
+	 * Returns the amount of random walks which finished.
+	 *
+	 * @return Amount of finished random walks.
+	 */
+	public int getAmountOfFinished() {
+		return amountOfFinished;
+	}
+
+	/**
+	 * Returns a random walk which finished.
+	 *
+	 * @param index Index in the list of finished random walks.
+	 * @return Index of the walker.
+	 */
+	public int getFinishedWalker(int index) {
+		return finished[index];
+	}
+
+	/**
+	 * Getter method for iterations attribute.
+	 *
+	 * @return iterations
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * File containing the OccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents the occupied positions of the space that wraps the
+ * random walks when the collisions between them are not allowed. It was created
+ * for the tenth practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface OccupancyGrid {
+
+	/**
+	 * Returns if a position is occupied.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 * @return True if the position is occupied.
+	 */
+	boolean isOccupied(int row, int column);
+
+	/**
+	 * Occupies a position if it is free.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 * @return True if the position was free and now is occupied by the caller,
+	 *         false if it was already occupied.
+	 */
+	boolean occupy(int row, int column);
+
+	/**
+	 * Returns the amount of rows of the grid.
+	 *
+	 * @return Amount of rows.
+	 */
+	int getRows();
+
+	/**
+	 * Returns the amount of columns of the grid.
+	 *
+	 * @return Amount of columns.
+	 */
+	int getColumns();
+
+	/**
+	 * Visits every occupied position of the grid.
+	 *
+	 * @param visitor Action performed on each occupied position.
+	 */
+	void forEachOccupied(CellVisitor visitor);
+
+	/**
+	 * Creates an independent copy of the grid, of the same kind, with the same
+	 * occupied positions. It must not be called while other threads occupy
+	 * positions.
+	 *
+	 * @return New occupancy grid.
+	 */
+	OccupancyGrid copy();
+
+	/**
+	 * Returns if the positions can be occupied by several threads at the same
+	 * time.
+	 *
+	 * @return True if the grid is thread-safe.
+	 */
+	boolean isConcurrent();
+}
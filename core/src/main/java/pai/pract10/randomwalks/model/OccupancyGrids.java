@@ -0,0 +1,107 @@
+/**
+ * File containing the OccupancyGrids entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which creates the occupancy grids of the RandomWalks program, choosing
+ * the storage that suits the size of the space. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class OccupancyGrids {
+
+	/** Amount of bytes from which a dense grid is allocated out of the heap. */
+	public static final long	OFF_HEAP_THRESHOLD	= 512L << 20;
+	/** Amount of bytes under which a dense grid is always used. */
+	public static final long	SPARSE_THRESHOLD		= 64L << 20;
+	/** Expected amount of tiles touched by each random walk. */
+	private static final long	TILES_PER_WALKER		= 16;
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private OccupancyGrids() {
+	}
+
+	/**
+	 * Creates a dense occupancy grid for one thread. It is packed in a long
+	 * array, or in direct memory when it needs more than OFF_HEAP_THRESHOLD bytes.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 * @return New occupancy grid.
+	 */
+	public static OccupancyGrid dense(int rows, int columns) {
+		if (((long) rows * columns + 7) >>> 3 > OFF_HEAP_THRESHOLD) {
+			return new OffHeapOccupancyGrid(rows, columns);
+		}
+		return new PackedOccupancyGrid(rows, columns);
+	}
+
+	/**
+	 * Creates a sparse occupancy grid, whose memory grows with the occupied area.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 * @return New occupancy grid.
+	 */
+	public static OccupancyGrid sparse(int rows, int columns) {
+		return new SparseOccupancyGrid(rows, columns);
+	}
+
+	/**
+	 * Creates the occupancy grid that suits a space and an amount of random
+	 * walks. A dense grid is used unless it needs more than SPARSE_THRESHOLD
+	 * bytes and the tiles expected to be touched by the random walks need less
+	 * memory than it.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 * @param expectedWalkers Expected amount of random walks, zero if unknown.
+	 * @return New occupancy grid.
+	 */
+	public static OccupancyGrid forLattice(int rows, int columns, int expectedWalkers) {
+		long denseBytes = ((long) rows * columns + 7) >>> 3;
+		long sparseBytes = expectedWalkers * TILES_PER_WALKER * SparseOccupancyGrid.TILE_SIDE * Long.BYTES;
+		if (expectedWalkers > 0 && denseBytes > SPARSE_THRESHOLD && sparseBytes < denseBytes) {
+			return sparse(rows, columns);
+		}
+		return dense(rows, columns);
+	}
+
+	/**
+	 * Returns an occupancy grid with the same occupied positions as the given
+	 * one which can be shared by several threads. An off-heap grid enables its
+	 * concurrent access instead of being copied, so it stays out of the heap,
+	 * and the words of a packed grid are copied as they are.
+	 *
+	 * @param grid Occupancy grid to share.
+	 * @return The same grid if it can be shared, or a new concurrent copy.
+	 */
+	public static OccupancyGrid concurrentCopy(OccupancyGrid grid) {
+		if (grid.isConcurrent()) {
+			return grid;
+		}
+		if (grid instanceof OffHeapOccupancyGrid) {
+			((OffHeapOccupancyGrid) grid).setConcurrent(true);
+			return grid;
+		}
+		if (grid instanceof PackedOccupancyGrid) {
+			return new ConcurrentOccupancyGrid(grid.getRows(), grid.getColumns(), ((PackedOccupancyGrid) grid).getWords());
+		}
+		final OccupancyGrid copy = new ConcurrentOccupancyGrid(grid.getRows(), grid.getColumns());
+		grid.forEachOccupied(new CellVisitor() {
+			@Override
+			public void visit(int row, int column) {
+				copy.occupy(row, column);
+			}
+		});
+		return copy;
+	}
+}
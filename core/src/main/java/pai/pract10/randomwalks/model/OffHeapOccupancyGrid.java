@@ -0,0 +1,218 @@
+/**
+ * File containing the OffHeapOccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Class which represents an occupancy grid packed in direct memory, out of the
+ * Java heap, one bit per position in row-major order. The bits are split in
+ * pages so the grid can be bigger than the limit of a single buffer. It is
+ * used by one thread at a time unless its concurrent access is enabled, and
+ * then each word is occupied while holding one of a set of striped locks, so
+ * two walkers can never occupy the same position and the grid stays out of the
+ * heap. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class OffHeapOccupancyGrid implements DenseOccupancyGrid {
+
+	/** Base 2 logarithm of the amount of words of a page. */
+	private static final int		PAGE_SHIFT	= 27;
+	/** Mask which returns the position of a word inside its page. */
+	private static final long		PAGE_MASK		= (1L << PAGE_SHIFT) - 1;
+	/** Amount of locks of the concurrent access, a power of two. */
+	private static final int		LOCKS				= 1024;
+	/** Amount of rows of the grid. */
+	private final int						rows;
+	/** Amount of columns of the grid. */
+	private final int						columns;
+	/** Pages of words, one bit per position. */
+	private final LongBuffer[]	pages;
+	/** Amount of words of the grid. */
+	private final long					wordCount;
+	/** Locks of the words, each word is guarded by the one of its index modulo LOCKS. */
+	private final Object[]			locks;
+	/** Establishes if several threads can occupy positions at the same time. */
+	private volatile boolean		concurrent;
+
+	/**
+	 * Default constructor. Every position starts free.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 */
+	public OffHeapOccupancyGrid(int rows, int columns) {
+		this.rows = rows;
+		this.columns = columns;
+		wordCount = ((long) rows * columns + 63) >>> 6;
+		pages = new LongBuffer[(int) ((wordCount + PAGE_MASK) >>> PAGE_SHIFT)];
+		for (int page = 0; page < pages.length; ++page) {
+			long pageWords = Math.min(PAGE_MASK + 1, wordCount - ((long) page << PAGE_SHIFT));
+			pages[page] = ByteBuffer.allocateDirect((int) (pageWords * Long.BYTES))
+					.order(ByteOrder.nativeOrder()).asLongBuffer();
+		}
+		locks = new Object[LOCKS];
+		for (int lock = 0; lock < LOCKS; ++lock) {
+			locks[lock] = new Object();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isOccupied(int, int)
+	 */
+	@Override
+	public boolean isOccupied(int row, int column) {
+		long index = (long) row * columns + column;
+		long word = index >>> 6;
+		return (pages[(int) (word >>> PAGE_SHIFT)].get((int) (word & PAGE_MASK)) & (1L << index)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#occupy(int, int)
+	 */
+	@Override
+	public boolean occupy(int row, int column) {
+		long index = (long) row * columns + column;
+		long word = index >>> 6;
+		if (concurrent) {
+			// Every write of a word is done holding its lock, so the value read
+			// here is the last one and no other thread writes it meanwhile.
+			synchronized (locks[(int) (word & (LOCKS - 1))]) {
+				return occupyWord(word, 1L << index);
+			}
+		}
+		return occupyWord(word, 1L << index);
+	}
+
+	/**
+	 * Sets a bit of a word if it was not set.
+	 *
+	 * @param word Index of the word.
+	 * @param bit Bit of the position in the word.
+	 * @return True if the bit was not set.
+	 */
+	private boolean occupyWord(long word, long bit) {
+		LongBuffer page = pages[(int) (word >>> PAGE_SHIFT)];
+		int offset = (int) (word & PAGE_MASK);
+		long bits = page.get(offset);
+		if ((bits & bit) != 0) {
+			return false;
+		}
+		page.put(offset, bits | bit);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#forEachOccupied(pai.pract10.randomwalks.model.CellVisitor)
+	 */
+	@Override
+	public void forEachOccupied(CellVisitor visitor) {
+		for (long word = 0; word < wordCount; ++word) {
+			long bits = pages[(int) (word >>> PAGE_SHIFT)].get((int) (word & PAGE_MASK));
+			while (bits != 0) {
+				long index = (word << 6) + Long.numberOfTrailingZeros(bits);
+				visitor.visit((int) (index / columns), (int) (index % columns));
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#copy()
+	 */
+	@Override
+	public OccupancyGrid copy() {
+		OffHeapOccupancyGrid copy = new OffHeapOccupancyGrid(rows, columns);
+		for (int page = 0; page < pages.length; ++page) {
+			copy.pages[page].put(pages[page].duplicate());
+			copy.pages[page].clear();
+		}
+		return copy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isConcurrent()
+	 */
+	@Override
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Establishes if several threads can occupy positions at the same time. It
+	 * must be called while no thread is using the grid.
+	 *
+	 * @param concurrent True to enable the concurrent access.
+	 */
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWordCount()
+	 */
+	@Override
+	public long getWordCount() {
+		return wordCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWord(long)
+	 */
+	@Override
+	public long getWord(long word) {
+		return pages[(int) (word >>> PAGE_SHIFT)].get((int) (word & PAGE_MASK));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#setWord(long, long)
+	 */
+	@Override
+	public void setWord(long word, long bits) {
+		pages[(int) (word >>> PAGE_SHIFT)].put((int) (word & PAGE_MASK), bits);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getRows()
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getColumns()
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+}
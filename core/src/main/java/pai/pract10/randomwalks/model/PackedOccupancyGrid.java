@@ -0,0 +1,168 @@
+/**
+ * File containing the PackedOccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which represents an occupancy grid packed in a single long array, one
+ * bit per position in row-major order. It uses eight times less memory than a
+ * boolean matrix, but it must be used by one thread at a time. It was created
+ * for the tenth practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class PackedOccupancyGrid implements DenseOccupancyGrid {
+
+	/** Amount of rows of the grid. */
+	private final int			rows;
+	/** Amount of columns of the grid. */
+	private final int			columns;
+	/** Bits of the positions, one per position. */
+	private final long[]	words;
+
+	/**
+	 * Default constructor. Every position starts free.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 */
+	public PackedOccupancyGrid(int rows, int columns) {
+		this.rows = rows;
+		this.columns = columns;
+		long bits = (long) rows * columns;
+		if ((bits + 63) >>> 6 > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too big occupancy grid: " + rows + "x" + columns);
+		}
+		words = new long[(int) ((bits + 63) >>> 6)];
+	}
+
+	/**
+	 * Getter method for words attribute, which must not be modified.
+	 *
+	 * @return Bits of the positions, one per position.
+	 */
+	long[] getWords() {
+		return words;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isOccupied(int, int)
+	 */
+	@Override
+	public boolean isOccupied(int row, int column) {
+		long index = (long) row * columns + column;
+		return (words[(int) (index >>> 6)] & (1L << index)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#occupy(int, int)
+	 */
+	@Override
+	public boolean occupy(int row, int column) {
+		long index = (long) row * columns + column;
+		int word = (int) (index >>> 6);
+		long bit = 1L << index;
+		if ((words[word] & bit) != 0) {
+			return false;
+		}
+		words[word] |= bit;
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#forEachOccupied(pai.pract10.randomwalks.model.CellVisitor)
+	 */
+	@Override
+	public void forEachOccupied(CellVisitor visitor) {
+		for (int word = 0; word < words.length; ++word) {
+			long bits = words[word];
+			while (bits != 0) {
+				long index = ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+				visitor.visit((int) (index / columns), (int) (index % columns));
+				bits &= bits - 1;
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#copy()
+	 */
+	@Override
+	public OccupancyGrid copy() {
+		PackedOccupancyGrid copy = new PackedOccupancyGrid(rows, columns);
+		System.arraycopy(words, 0, copy.words, 0, words.length);
+		return copy;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isConcurrent()
+	 */
+	@Override
+	public boolean isConcurrent() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWordCount()
+	 */
+	@Override
+	public long getWordCount() {
+		return words.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#getWord(long)
+	 */
+	@Override
+	public long getWord(long word) {
+		return words[(int) word];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.DenseOccupancyGrid#setWord(long, long)
+	 */
+	@Override
+	public void setWord(long word, long bits) {
+		words[(int) word] = bits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getRows()
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getColumns()
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+}
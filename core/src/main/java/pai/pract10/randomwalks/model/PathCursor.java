@@ -0,0 +1,40 @@
+/**
+ * File containing the PathCursor entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents a forward only traversal of the points of a walk
+ * path, decoded one by one when they are needed. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface PathCursor {
+
+	/**
+	 * Moves the cursor to the next point of the path. The cursor starts before
+	 * the first point.
+	 *
+	 * @return False if there are no more points.
+	 */
+	boolean next();
+
+	/**
+	 * Returns the row of the current point.
+	 *
+	 * @return Row of the current point.
+	 */
+	int getRow();
+
+	/**
+	 * Returns the column of the current point.
+	 *
+	 * @return Column of the current point.
+	 */
+	int getColumn();
+}
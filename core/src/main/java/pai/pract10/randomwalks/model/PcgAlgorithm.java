@@ -0,0 +1,69 @@
+/**
+ * File containing the PcgAlgorithm entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which implements the PCG32 (XSH RR) algorithm of O'Neill. Its state is
+ * the 64 bits state of the generator and its increment, which selects the
+ * stream. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class PcgAlgorithm implements RandomAlgorithm {
+
+	/** Multiplier of the linear congruential generator. */
+	private static final long MULTIPLIER = 6364136223846793005L;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getName()
+	 */
+	@Override
+	public String getName() {
+		return "pcg";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getStateLength()
+	 */
+	@Override
+	public int getStateLength() {
+		return 2;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#seed(long[], int, long, long)
+	 */
+	@Override
+	public void seed(long[] states, int offset, long seed, long stream) {
+		states[offset] = 0;
+		states[offset + 1] = (stream << 1) | 1;
+		nextInt(states, offset);
+		states[offset] += seed;
+		nextInt(states, offset);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#nextInt(long[], int)
+	 */
+	@Override
+	public int nextInt(long[] states, int offset) {
+		long oldState = states[offset];
+		states[offset] = oldState * MULTIPLIER + states[offset + 1];
+		int xorShifted = (int) (((oldState >>> 18) ^ oldState) >>> 27);
+		int rotation = (int) (oldState >>> 59);
+		return Integer.rotateRight(xorShifted, rotation);
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ * File containing the RandomAlgorithm entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents a random numbers generator algorithm. The state of
+ * each stream lives in a slice of a long array owned by the caller, so every
+ * random walk can keep its own independent stream without an object per walk.
+ * It was created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface RandomAlgorithm {
+
+	/**
+	 * Returns the name of the algorithm.
+	 *
+	 * @return Name of the algorithm.
+	 */
+	String getName();
+
+	/**
+	 * Returns the amount of longs of the state of a stream.
+	 *
+	 * @return Length of the state.
+	 */
+	int getStateLength();
+
+	/**
+	 * Initializes the state of a stream. Different streams of the same seed are
+	 * independent, and the same seed and stream always give the same numbers.
+	 *
+	 * @param states Array which contains the state.
+	 * @param offset Position of the state in the array.
+	 * @param seed Master seed.
+	 * @param stream Index of the stream.
+	 */
+	void seed(long[] states, int offset, long seed, long stream);
+
+	/**
+	 * Returns the next 32 random bits of a stream and advances its state.
+	 *
+	 * @param states Array which contains the state.
+	 * @param offset Position of the state in the array.
+	 * @return Random integer.
+	 */
+	int nextInt(long[] states, int offset);
+}
@@ -0,0 +1,62 @@
+/**
+ * File containing the RandomAlgorithms entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which contains the available random numbers generator algorithms and
+ * some functions over the numbers they generate. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class RandomAlgorithms {
+
+	/** SplitMix64 algorithm. */
+	public static final RandomAlgorithm		SPLITMIX		= new SplitMixAlgorithm();
+	/** xoshiro256** algorithm. */
+	public static final RandomAlgorithm		XOSHIRO256	= new Xoshiro256Algorithm();
+	/** PCG32 algorithm. */
+	public static final RandomAlgorithm		PCG					= new PcgAlgorithm();
+	/** Algorithm used when none is given. */
+	public static final RandomAlgorithm		DEFAULT			= SPLITMIX;
+	/** Available algorithms. */
+	private static final RandomAlgorithm[]	ALGORITHMS	= { SPLITMIX, XOSHIRO256, PCG };
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private RandomAlgorithms() {
+	}
+
+	/**
+	 * Returns the algorithm with the given name.
+	 *
+	 * @param name Name of the algorithm.
+	 * @return Random numbers generator algorithm.
+	 */
+	public static RandomAlgorithm forName(String name) {
+		for (RandomAlgorithm algorithm : ALGORITHMS) {
+			if (algorithm.getName().equalsIgnoreCase(name)) {
+				return algorithm;
+			}
+		}
+		throw new IllegalArgumentException("Unknown random algorithm: " + name);
+	}
+
+	/**
+	 * Returns a random integer between 0 (inclusive) and the given bound
+	 * (exclusive) from 32 random bits.
+	 *
+	 * @param bits Random bits.
+	 * @param bound Upper bound, must be positive.
+	 * @return Random integer.
+	 */
+	public static int boundedInt(int bits, int bound) {
+		return (int) (((bits & 0xffffffffL) * bound) >>> 32);
+	}
+}
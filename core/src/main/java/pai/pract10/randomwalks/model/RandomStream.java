@@ -0,0 +1,86 @@
+/**
+ * File containing the RandomStream entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which represents a single stream of a random numbers generator
+ * algorithm, for the code which is not stepping the random walks, like the
+ * choice of their starting points. It was created for the tenth practice of
+ * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad
+ * de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class RandomStream {
+
+	/** Algorithm of the stream. */
+	private final RandomAlgorithm	algorithm;
+	/** State of the stream. */
+	private final long[]					state;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param algorithm Random numbers generator algorithm.
+	 * @param seed Master seed.
+	 * @param stream Index of the stream.
+	 */
+	public RandomStream(RandomAlgorithm algorithm, long seed, long stream) {
+		this.algorithm = algorithm;
+		state = new long[algorithm.getStateLength()];
+		algorithm.seed(state, 0, seed, stream);
+	}
+
+	/**
+	 * Returns a random integer between 0 (inclusive) and the given bound
+	 * (exclusive).
+	 *
+	 * @param bound Upper bound, must be positive.
+	 * @return Random integer.
+	 */
+	public int nextInt(int bound) {
+		return RandomAlgorithms.boundedInt(algorithm.nextInt(state, 0), bound);
+	}
+
+	/**
+	 * Returns a random double between 0 (inclusive) and 1 (exclusive).
+	 *
+	 * @return Random double.
+	 */
+	public double nextDouble() {
+		long bits = ((long) (algorithm.nextInt(state, 0) >>> 6) << 27) | (algorithm.nextInt(state, 0) >>> 5);
+		return bits * 0x1.0p-53;
+	}
+
+	/**
+	 * Returns a random long between 0 (inclusive) and the given bound
+	 * (exclusive), without bias.
+	 *
+	 * @param bound Upper bound, must be positive.
+	 * @return Random long.
+	 */
+	public long nextLong(long bound) {
+		long bits;
+		long value;
+		do {
+			bits = (((long) algorithm.nextInt(state, 0) << 32) | (algorithm.nextInt(state, 0) & 0xffffffffL)) >>> 1;
+			value = bits % bound;
+		} while (bits - value + (bound - 1) < 0);
+		return value;
+	}
+
+	/**
+	 * Returns a random double with standard normal distribution, obtained with
+	 * the Box-Muller transform.
+	 *
+	 * @return Random double with mean 0 and standard deviation 1.
+	 */
+	public double nextGaussian() {
+		final double RADIUS = Math.sqrt(-2 * Math.log(1 - nextDouble()));
+		return RADIUS * Math.cos(2 * Math.PI * nextDouble());
+	}
+}
@@ -6,7 +6,6 @@ package pai.pract10.randomwalks.model;
 
 import java.awt.Point;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * Class which represents a random walk of the RandomWalks program. It was
@@ -33,21 +32,33 @@ public class RandomWalk {
 	/** Establishes if the collisions between random walks are allowed. */
 	private boolean allowCollisions;
 	/** Specifies the occupied positions. */
-	public static boolean[][] occupiedPositions;
+	private OccupancyGrid occupancy;
 	/** The column of previous point of the last point of this random walk. */
 	private int oldRow;
 	/** The column of previous point of the last point of this random walk. */
 	private int oldColumn;
+	/** Random numbers stream used to choose the next points. */
+	private RandomStream randomStream;
 	
 	/**
-	 * Default constructor.
+	 * Default constructor. When the collisions are not allowed every random walk
+	 * of the space must share the same occupancy grid, so they never end up on
+	 * the same position. The random numbers stream makes it reproducible: two
+	 * random walks with equal streams in the same space choose the same points.
 	 * @param startingRow Starting row of this random walk.
 	 * @param startingColumn Starting column of this random walk.
 	 * @param rows Total rows.
 	 * @param columns Total columns.
 	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param occupancy Occupied positions shared by the random walks, null when the collisions are allowed.
+	 * @param randomStream Random numbers stream used to choose the next points.
+	 * @throws IllegalArgumentException If the collisions are not allowed and there is no occupancy grid.
 	 */
-	public RandomWalk(int startingRow, int startingColumn, int rows, int columns, boolean allowCollisions) {
+	public RandomWalk(int startingRow, int startingColumn, int rows, int columns, boolean allowCollisions,
+			OccupancyGrid occupancy, RandomStream randomStream) {
+		if (!allowCollisions && occupancy == null) {
+			throw new IllegalArgumentException("The random walks need a shared occupancy grid.");
+		}
 		setRows(rows);
 		setColumns(columns);
 		setCurrentRow(startingRow);
@@ -56,8 +67,10 @@ public class RandomWalk {
 		setOldRow(-1);
 		setFinished(false);
 		setAllowCollisions(allowCollisions);
+		this.occupancy = occupancy;
+		this.randomStream = randomStream;
 		if (!allowCollisions) {
-			occupiedPositions[getCurrentColumn()][getCurrentRow()] = true;
+			occupancy.occupy(getCurrentRow(), getCurrentColumn());
 		}
 	}
 	
@@ -66,27 +79,44 @@ public class RandomWalk {
 	 * @return Coordinates of the new point.
 	 */
 	public Point nextPoint() {
+		if (!step()) {
+			return null;
+		}
+		return new Point(getCurrentRow(), getCurrentColumn());
+	}
+
+	/**
+	 * Moves the random walk to a random next point without creating any object.
+	 * @return True if the random walk has moved, false if it has finished.
+	 */
+	public boolean step() {
 		checkState();
 		if (isFinished()) {
-			return null;
+			return false;
 		}
-		ArrayList<Point> possibleNextPoints = getPossibleNextPoints();
-		if (possibleNextPoints.size() == 0) {
+		int directions = getPossibleDirections();
+		if (directions == 0) {
 			setFinished(true);
-			return null;
+			return false;
 		}
-		Random random = new Random();
-		Point newPoint = possibleNextPoints.get(random.nextInt(possibleNextPoints.size()));
-		setOldRow(getCurrentRow());
-		setOldColumn(getCurrentColumn());
-		setCurrentRow((int)newPoint.getX());
-		setCurrentColumn((int)newPoint.getY());
-		if (!allowCollisions) {
-			occupiedPositions[getCurrentColumn()][getCurrentRow()] = true;
+		while (directions != 0) {
+			int direction = WalkStepper.nthDirection(directions,
+					randomStream.nextInt(WalkStepper.countDirections(directions)));
+			int nextRow = getCurrentRow() + WalkStepper.rowOffset(direction);
+			int nextColumn = getCurrentColumn() + WalkStepper.columnOffset(direction);
+			if (allowCollisions || occupancy.occupy(nextRow, nextColumn)) {
+				setOldRow(getCurrentRow());
+				setOldColumn(getCurrentColumn());
+				setCurrentRow(nextRow);
+				setCurrentColumn(nextColumn);
+				return true;
+			}
+			directions &= ~(1 << direction);
 		}
-		return newPoint;
+		setFinished(true);
+		return false;
 	}
-	
+
 	/**
 	 * Establishes if the random walk should be finished or not.
 	 */
@@ -102,29 +132,43 @@ public class RandomWalk {
 	 */
 	public ArrayList<Point> getPossibleNextPoints() {
 		ArrayList<Point> possibleNextPoints = new ArrayList<Point>();
-		if (allowCollisions || (currentRow > 0 && !occupiedPositions[currentRow - 1][currentColumn])) {
-			if (allowCollisions || currentRow - 1 != oldRow) {
-				possibleNextPoints.add(new Point(currentRow - 1, currentColumn));
-			}
-		}
-		if (allowCollisions || (currentRow < rows - 1 && !occupiedPositions[currentRow + 1][currentColumn])) {
-			if (allowCollisions || currentRow + 1 != oldRow) {
-				possibleNextPoints.add(new Point(currentRow + 1, currentColumn));
-			}
-		}
-		if (allowCollisions || (currentColumn > 0 && !occupiedPositions[currentRow][currentColumn - 1])) {
-			if (allowCollisions || currentColumn - 1 != oldColumn) {
-				possibleNextPoints.add(new Point(currentRow , currentColumn - 1));
-			}
-		}
-		if (allowCollisions || (currentColumn < columns - 1 && !occupiedPositions[currentRow][currentColumn + 1])) {
-			if (allowCollisions || currentColumn + 1 != oldColumn) {
-				possibleNextPoints.add(new Point(currentRow, currentColumn + 1));
+		int directions = getPossibleDirections();
+		for (int direction = 0; direction < WalkStepper.DIRECTIONS; ++direction) {
+			if ((directions & (1 << direction)) != 0) {
+				possibleNextPoints.add(new Point(currentRow + WalkStepper.rowOffset(direction),
+						currentColumn + WalkStepper.columnOffset(direction)));
 			}
 		}
 		return possibleNextPoints;
 	}
 
+	/**
+	 * Returns the possible directions of this random walk as a bitmask.
+	 * @return Bitmask of possible directions.
+	 * @see WalkStepper#possibleDirections(int, int, int, int, int, int, boolean, OccupancyGrid)
+	 */
+	public int getPossibleDirections() {
+		return WalkStepper.possibleDirections(currentRow, currentColumn, oldRow,
+				oldColumn, rows, columns, allowCollisions, occupancy);
+	}
+
+	/**
+	 * Setter method for randomStream attribute, to make the random walk
+	 * reproducible.
+	 * @param randomStream 
+	 */
+	public void setRandomStream(RandomStream randomStream) {
+		this.randomStream = randomStream;
+	}
+
+	/**
+	 * Getter method for occupancy attribute.
+	 * @return occupancy
+	 */
+	public OccupancyGrid getOccupancy() {
+		return occupancy;
+	}
+
 	/**
 	 * Getter method for rows attribute.
 	 * @return rows
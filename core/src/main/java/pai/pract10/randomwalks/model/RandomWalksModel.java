@@ -0,0 +1,733 @@
+/**
+ * File containing the RandomWalksModel entity definition. 
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Class which represents the RandomWalks program model. It was created for the
+ * tenth practice of PAI (Programación de Aplicaciones Interactivas) course of
+ * ULL (Universidad de la Laguna).
+ * 
+ * 
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 13 abr. 2018
+ */
+public class RandomWalksModel {
+	/**
+	 * Auxiliary class created to step a range of random walks in a fork/join
+	 * pool. It splits the range until it is small enough to be stepped
+	 * sequentially. It was created for the tenth practice of PAI (Programación
+	 * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	class StepTask extends RecursiveAction {
+		/** Default serial version ID. */
+		private static final long serialVersionUID = 1L;
+		/** First position of the range in the active random walks (inclusive). */
+		private final int from;
+		/** Last position of the range in the active random walks (exclusive). */
+		private final int to;
+
+		/**
+		 * Default constructor.
+		 * @param from First position of the range in the active random walks (inclusive).
+		 * @param to Last position of the range in the active random walks (exclusive).
+		 */
+		StepTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * Steps the random walks of the range.
+		 */
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				for (int position = from; position < to; ++position) {
+					stepDirections[position] = (byte) stepWalker(activeWalkers[position]);
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new StepTask(from, middle), new StepTask(middle, to));
+		}
+	}
+
+	/** Amount of standard deviations of a Gaussian cluster which fit in the space. */
+	private static final int GAUSSIAN_CLUSTER_SPREAD = 8;
+	/** Amount of random walks under which a range is stepped sequentially. */
+	private static final int PARALLEL_THRESHOLD = 4096;
+	/** Result of stepping a random walk which has finished. */
+	private static final int FINISHED = -1;
+	/** Direction codes packed in a byte, of 2 bits each. */
+	public static final int DIRECTIONS_PER_BYTE = 4;
+	/** Random walks of the program. */
+	WalkerStore	randomWalks;
+	/** Establishes the amount of rows of the space that wraps the random walks. */
+	private int rows;
+	/** Establishes the amount of columns of the space that wraps the random walks. */
+	private int columns;
+	/** Establishes if the collisions between random walks are allowed. */
+	private boolean allowCollisions;
+	/** Occupied positions, only used when the collisions are not allowed. */
+	private OccupancyGrid occupancy;
+	/** Master seed from which the random numbers stream of each random walk is derived. */
+	private long seed;
+	/** Algorithm of the random numbers streams. */
+	private RandomAlgorithm randomAlgorithm;
+	/** Amount of threads used to step the random walks. */
+	private int parallelism;
+	/** Pool where the random walks are stepped when the parallelism is greater than one. */
+	private ForkJoinPool pool;
+	/** Indexes of the random walks which have not finished. */
+	private int[] activeWalkers;
+	/** Amount of random walks which have not finished. */
+	private int amountOfActiveWalkers;
+	/** Direction followed by each active random walk in a parallel iteration, or FINISHED. */
+	private byte[] stepDirections;
+	/** Direction codes of the moves of the last iteration, null if they are not packed. */
+	private byte[] packedDirections;
+	/** Builder of the result of each iteration. */
+	private final MoveBatch.Builder iterationMoves;
+	/** Objects notified after each iteration. */
+	private final ArrayList<IterationListener> iterationListeners;
+	/** Amount of iterations done. */
+	private long iterations;
+	/** Times each position has been visited, null if the visits are not counted. */
+	private VisitCounts visitCounts;
+	/** Copy of the occupied positions shared with the snapshots, which is never changed, null if there is not any. */
+	private OccupancyGrid occupancyBase;
+	/** Positions occupied after occupancyBase, as row * columns + column. */
+	private long[] occupiedSinceBase;
+	/** Amount of positions occupied after occupancyBase. */
+	private int amountOfOccupiedSinceBase;
+	/** Last snapshot taken, whose occupied positions become the next base once they are built. */
+	private ModelSnapshot lastSnapshot;
+
+	/**
+	 * Default constructor. Initializes the random walks.
+	 * @param rows Amount of rows of the space that wraps the random walks.
+	 * @param columns Amount of columns of the space that wraps the random walks.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 */
+	public RandomWalksModel(int rows, int columns, boolean allowCollisions) {
+		this(rows, columns, allowCollisions, new Random().nextLong());
+	}
+
+	/**
+	 * Constructor with a master seed. Two models with the same seed, random
+	 * algorithm and random walks produce the same points, stepped sequentially
+	 * or in parallel.
+	 * @param rows Amount of rows of the space that wraps the random walks.
+	 * @param columns Amount of columns of the space that wraps the random walks.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param seed Master seed of the random numbers streams.
+	 */
+	public RandomWalksModel(int rows, int columns, boolean allowCollisions, long seed) {
+		this(rows, columns, allowCollisions, seed, 0);
+	}
+
+	/**
+	 * Constructor with a master seed and the expected amount of random walks,
+	 * which is used to choose a dense or a sparse occupancy grid.
+	 * @param rows Amount of rows of the space that wraps the random walks.
+	 * @param columns Amount of columns of the space that wraps the random walks.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param seed Master seed of the random numbers streams.
+	 * @param expectedWalkers Expected amount of random walks, zero if unknown.
+	 * @see OccupancyGrids#forLattice(int, int, int)
+	 */
+	public RandomWalksModel(int rows, int columns, boolean allowCollisions, long seed, int expectedWalkers) {
+		this(rows, columns, allowCollisions, seed, expectedWalkers,
+				allowCollisions ? null : OccupancyGrids.forLattice(rows, columns, expectedWalkers));
+	}
+
+	/**
+	 * Constructor with the occupancy grid, which is used as it is.
+	 * @param rows Amount of rows of the space that wraps the random walks.
+	 * @param columns Amount of columns of the space that wraps the random walks.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param seed Master seed of the random numbers streams.
+	 * @param expectedWalkers Expected amount of random walks, zero if unknown.
+	 * @param occupancy Occupied positions, null when the collisions are allowed.
+	 */
+	private RandomWalksModel(int rows, int columns, boolean allowCollisions, long seed, int expectedWalkers,
+			OccupancyGrid occupancy) {
+		this.rows = rows;
+		this.columns = columns;
+		this.allowCollisions = allowCollisions;
+		this.seed = seed;
+		this.parallelism = 1;
+		randomAlgorithm = RandomAlgorithms.DEFAULT;
+		randomWalks = new WalkerStore(randomAlgorithm.getStateLength());
+		activeWalkers = new int[Math.max(expectedWalkers, 16)];
+		iterationMoves = new MoveBatch.Builder();
+		iterationListeners = new ArrayList<IterationListener>();
+		this.occupancy = occupancy;
+	}
+	
+	/**
+	 * Simulates an iteration, every random walk which has not finished calculates
+	 * a new point. If the parallelism is greater than one the random walks are
+	 * stepped in parallel. When the collisions are allowed each random walk uses
+	 * its own random numbers stream, so the points do not depend on the amount of
+	 * threads. When they are not allowed the positions are occupied atomically,
+	 * so two random walks never share a position, but the points depend on the
+	 * order in which the threads occupy them. The random walks which finish are
+	 * removed from the active ones in O(1), moving the last active random walk
+	 * to their position, so the cost of an iteration only depends on the random
+	 * walks which are still moving. The moves are written over the arrays of the
+	 * previous iteration, so no memory is allocated per random walk.
+	 * @return Moves of the random walks which have moved and random walks which
+	 *         have finished, in the order of the active random walks. They are
+	 *         only valid until the next iteration, so they must be copied with
+	 *         MoveBatch.Builder.addBatch() to keep them.
+	 */
+	public MoveBatch calculateNextMoves() {
+		final boolean PARALLEL = pool != null && (allowCollisions || occupancy.isConcurrent())
+				&& amountOfActiveWalkers > PARALLEL_THRESHOLD;
+		if (PARALLEL) {
+			if (stepDirections == null || stepDirections.length < amountOfActiveWalkers) {
+				stepDirections = new byte[activeWalkers.length];
+			}
+			pool.invoke(new StepTask(0, amountOfActiveWalkers));
+		}
+		final boolean PACK = packedDirections != null;
+		if (PACK && packedDirections.length * DIRECTIONS_PER_BYTE < amountOfActiveWalkers) {
+			packedDirections = new byte[(activeWalkers.length + DIRECTIONS_PER_BYTE - 1) / DIRECTIONS_PER_BYTE];
+		}
+		int packed = 0;
+		int position = 0;
+		while (position < amountOfActiveWalkers) {
+			final int WALKER = activeWalkers[position];
+			final int DIRECTION = PARALLEL ? stepDirections[position] : stepWalker(WALKER);
+			if (DIRECTION != FINISHED) {
+				iterationMoves.addMove(WALKER, randomWalks.getCurrentRow(WALKER), randomWalks.getCurrentColumn(WALKER));
+				if (PACK) {
+					// The position is also the index of the move, as it only grows when a random walk moves.
+					final int SLOT = position & (DIRECTIONS_PER_BYTE - 1);
+					packed |= DIRECTION << (SLOT << 1);
+					if (SLOT == DIRECTIONS_PER_BYTE - 1) {
+						packedDirections[position >>> 2] = (byte) packed;
+						packed = 0;
+					}
+				}
+				if (visitCounts != null) {
+					visitCounts.visit(randomWalks.getCurrentRow(WALKER), randomWalks.getCurrentColumn(WALKER));
+				}
+				if (occupancyBase != null) {
+					logOccupied(randomWalks.getCurrentRow(WALKER), randomWalks.getCurrentColumn(WALKER));
+				}
+				position++;
+			} else {
+				randomWalks.setFinished(WALKER);
+				iterationMoves.addFinished(WALKER);
+				// The last active random walk takes its position and is checked next.
+				amountOfActiveWalkers--;
+				activeWalkers[position] = activeWalkers[amountOfActiveWalkers];
+				if (PARALLEL) {
+					stepDirections[position] = stepDirections[amountOfActiveWalkers];
+				}
+			}
+		}
+		if (PACK && (position & (DIRECTIONS_PER_BYTE - 1)) != 0) {
+			packedDirections[position >>> 2] = (byte) packed;
+		}
+		MoveBatch moves = iterationMoves.endIteration().buildTransient();
+		iterations++;
+		for (int i = 0; i < iterationListeners.size(); ++i) {
+			iterationListeners.get(i).iterationDone(this, moves);
+		}
+		return moves;
+	}
+
+	/**
+	 * Takes a snapshot of the whole state of the model, so the simulation can be
+	 * resumed from it later with fromSnapshot(). It must be called between two
+	 * iterations, but the snapshot can be written from another thread while the
+	 * simulation goes on. The random walks are copied, but the occupied
+	 * positions are only copied by the first snapshot: after it the model logs
+	 * the positions it occupies, and each snapshot takes that copy and the
+	 * positions logged since it, which it joins when it is written. The joined
+	 * positions become the copy of the next snapshots, so a snapshot only costs
+	 * the moves done since the last one.
+	 * @return Snapshot of the model.
+	 */
+	public ModelSnapshot createSnapshot() {
+		long[] occupiedPositions = null;
+		if (!allowCollisions) {
+			adoptSnapshotOccupancy();
+			if (occupancyBase == null) {
+				occupancyBase = occupancy.copy();
+				occupiedSinceBase = new long[Math.max(amountOfActiveWalkers, 16)];
+				amountOfOccupiedSinceBase = 0;
+			}
+			occupiedPositions = Arrays.copyOf(occupiedSinceBase, amountOfOccupiedSinceBase);
+		}
+		lastSnapshot = new ModelSnapshot(this, randomWalks.copy(), Arrays.copyOf(activeWalkers, amountOfActiveWalkers),
+				occupancyBase, occupiedPositions);
+		return lastSnapshot;
+	}
+
+	/**
+	 * Takes the occupied positions of the last snapshot as the new base when
+	 * it has already joined them, and forgets the positions it contains.
+	 */
+	private void adoptSnapshotOccupancy() {
+		if (lastSnapshot == null) {
+			return;
+		}
+		final OccupancyGrid BUILT = lastSnapshot.getBuiltOccupancy();
+		if (BUILT != null) {
+			final int JOINED = lastSnapshot.getAmountOfOccupiedPositions();
+			amountOfOccupiedSinceBase -= JOINED;
+			System.arraycopy(occupiedSinceBase, JOINED, occupiedSinceBase, 0, amountOfOccupiedSinceBase);
+			occupancyBase = BUILT;
+			lastSnapshot = null;
+		}
+	}
+
+	/**
+	 * Logs a position occupied after the base of the snapshots. When the log
+	 * would take more memory than the grid, it is dropped with the base, and the
+	 * next snapshot copies the whole grid again.
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 */
+	private void logOccupied(int row, int column) {
+		if (amountOfOccupiedSinceBase == occupiedSinceBase.length) {
+			if ((long) occupiedSinceBase.length * Long.SIZE > (long) rows * columns) {
+				occupancyBase = null;
+				occupiedSinceBase = null;
+				amountOfOccupiedSinceBase = 0;
+				lastSnapshot = null;
+				return;
+			}
+			occupiedSinceBase = Arrays.copyOf(occupiedSinceBase, occupiedSinceBase.length * 2);
+		}
+		occupiedSinceBase[amountOfOccupiedSinceBase++] = (long) row * columns + column;
+	}
+
+	/**
+	 * Creates a model with the state of a snapshot. It produces the same
+	 * iterations as the model the snapshot was taken from. The parallelism is
+	 * not part of the state, so it starts being one. A snapshot which has been
+	 * read hands its occupied positions to the model without copying them, so
+	 * it can only be restored once.
+	 * @param snapshot Snapshot of a model.
+	 * @return New model.
+	 * @throws IllegalStateException If the snapshot has already handed its occupied positions.
+	 */
+	public static RandomWalksModel fromSnapshot(ModelSnapshot snapshot) {
+		RandomWalksModel model = new RandomWalksModel(snapshot.getRows(), snapshot.getColumns(),
+				snapshot.isAllowCollisions(), snapshot.getSeed(), snapshot.getAmountOfRandomWalks(),
+				snapshot.takeOccupancy());
+		model.setRandomAlgorithm(snapshot.getRandomAlgorithm());
+		model.randomWalks = snapshot.copyRandomWalks();
+		model.activeWalkers = snapshot.copyActiveWalkers();
+		model.amountOfActiveWalkers = model.activeWalkers.length;
+		if (model.activeWalkers.length == 0) {
+			model.activeWalkers = new int[16];
+		}
+		model.iterations = snapshot.getIterations();
+		return model;
+	}
+
+	/**
+	 * Starts counting the times each position is visited, from the current
+	 * point of every random walk. The visits are counted while the moves are
+	 * collected, so it barely slows the iterations down. The counts are not part
+	 * of the snapshots.
+	 * @return Counters of the visits.
+	 * @throws IllegalArgumentException If the space has too many positions.
+	 */
+	public VisitCounts startCountingVisits() {
+		if (visitCounts == null) {
+			visitCounts = new VisitCounts(rows, columns);
+			for (int walker = 0; walker < randomWalks.size(); ++walker) {
+				visitCounts.visit(randomWalks.getCurrentRow(walker), randomWalks.getCurrentColumn(walker));
+			}
+		}
+		return visitCounts;
+	}
+
+	/**
+	 * Starts packing the direction code of each move while the moves are
+	 * collected, so a recorder does not have to calculate them from the points.
+	 * The codes are the ones of WalkStepper, of 2 bits each and
+	 * DIRECTIONS_PER_BYTE per byte from the lowest bits, in the order of the
+	 * moves of the iteration.
+	 */
+	public void startPackingDirections() {
+		if (packedDirections == null) {
+			packedDirections = new byte[(activeWalkers.length + DIRECTIONS_PER_BYTE - 1) / DIRECTIONS_PER_BYTE];
+		}
+	}
+
+	/**
+	 * Returns the packed direction codes of the moves of the last iteration,
+	 * which must not be modified. They are only valid until the next iteration,
+	 * so they must be read by an IterationListener.
+	 * @return Packed direction codes, null if they are not packed.
+	 */
+	public byte[] getPackedDirections() {
+		return packedDirections;
+	}
+
+	/**
+	 * Getter method for visitCounts attribute.
+	 * @return Times each position has been visited, null if the visits are not counted.
+	 */
+	public VisitCounts getVisitCounts() {
+		return visitCounts;
+	}
+
+	/**
+	 * Adds an object to be notified after each iteration.
+	 * @param listener Object to notify.
+	 */
+	public void addIterationListener(IterationListener listener) {
+		iterationListeners.add(listener);
+	}
+
+	/**
+	 * Removes an object notified after each iteration.
+	 * @param listener Object to stop notifying.
+	 */
+	public void removeIterationListener(IterationListener listener) {
+		iterationListeners.remove(listener);
+	}
+
+	/**
+	 * Moves a random walk to a random next point, following the rules of
+	 * RandomWalk.nextPoint(). It does not mark the random walk as finished, so
+	 * different random walks can be stepped at the same time.
+	 * @param walker Index of the random walk.
+	 * @return Direction followed by the random walk, or FINISHED if it has finished.
+	 */
+	private int stepWalker(int walker) {
+		int currentRow = randomWalks.getCurrentRow(walker);
+		int currentColumn = randomWalks.getCurrentColumn(walker);
+		if (currentRow < 0 || currentColumn < 0 || currentRow > rows || currentColumn > columns) {
+			return FINISHED;
+		}
+		int directions = WalkStepper.possibleDirections(currentRow, currentColumn,
+				randomWalks.getOldRow(walker), randomWalks.getOldColumn(walker), rows,
+				columns, allowCollisions, occupancy);
+		long[] randomStates = randomWalks.getRandomStates();
+		int randomStateOffset = randomWalks.getRandomStateOffset(walker);
+		while (directions != 0) {
+			int direction = WalkStepper.nthDirection(directions, RandomAlgorithms.boundedInt(
+					randomAlgorithm.nextInt(randomStates, randomStateOffset),
+					WalkStepper.countDirections(directions)));
+			int nextRow = currentRow + WalkStepper.rowOffset(direction);
+			int nextColumn = currentColumn + WalkStepper.columnOffset(direction);
+			if (allowCollisions || occupancy.occupy(nextRow, nextColumn)) {
+				randomWalks.moveTo(walker, nextRow, nextColumn);
+				return direction;
+			}
+			directions &= ~(1 << direction);
+		}
+		return FINISHED;
+	}
+
+	/**
+	 * Adds a new random walk.
+	 * @param startingPoint Starting position of the new random walk.
+	 */
+	public void addRandomWalk(Point startingPoint) {
+		addRandomWalk((int) startingPoint.getX(), (int) startingPoint.getY());
+	}
+
+	/**
+	 * Adds a new random walk. When the collisions are not allowed it is only
+	 * added if its starting position is free.
+	 * @param startingRow Starting row of the new random walk.
+	 * @param startingColumn Starting column of the new random walk.
+	 * @return True if the random walk has been added.
+	 * @throws IllegalArgumentException If the position is out of the space.
+	 */
+	public boolean addRandomWalk(int startingRow, int startingColumn) {
+		if (startingRow < 0 || startingColumn < 0 || startingRow >= rows || startingColumn >= columns) {
+			throw new IllegalArgumentException("Wrong starting position: (" + startingRow + ", " + startingColumn + ")");
+		}
+		if (!allowCollisions) {
+			if (!occupancy.occupy(startingRow, startingColumn)) {
+				return false;
+			}
+			if (occupancyBase != null) {
+				logOccupied(startingRow, startingColumn);
+			}
+		}
+		int walker = randomWalks.add(startingRow, startingColumn);
+		if (amountOfActiveWalkers == activeWalkers.length) {
+			activeWalkers = Arrays.copyOf(activeWalkers, activeWalkers.length * 2);
+		}
+		activeWalkers[amountOfActiveWalkers++] = walker;
+		if (visitCounts != null) {
+			visitCounts.visit(startingRow, startingColumn);
+		}
+		randomAlgorithm.seed(randomWalks.getRandomStates(),
+				randomWalks.getRandomStateOffset(walker), seed, walker);
+		return true;
+	}
+
+	/**
+	 * Adds many random walks at once, with their starting positions chosen at
+	 * random inside the space, between 0 (inclusive) and the amount of rows and
+	 * columns (exclusive). When the collisions are not allowed the occupied
+	 * starting positions are skipped, so there can be less random walks than
+	 * requested.
+	 * @param amount Amount of random walks to add.
+	 * @param distribution Distribution of the starting positions.
+	 * @param random Random numbers stream used to choose the positions.
+	 * @return Amount of random walks added.
+	 * @throws IllegalArgumentException If the unique positions requested do not fit in the space.
+	 */
+	public int addRandomWalks(int amount, SeedingDistribution distribution, RandomStream random) {
+		final int FIRST = randomWalks.size();
+		switch (distribution) {
+		case UNIFORM:
+			for (int i = 0; i < amount; ++i) {
+				addRandomWalk(random.nextInt(rows), random.nextInt(columns));
+			}
+			break;
+		case GAUSSIAN_CLUSTER:
+			final double CENTER_ROW = random.nextInt(rows);
+			final double CENTER_COLUMN = random.nextInt(columns);
+			final double DEVIATION = Math.max(1, Math.min(rows, columns) / GAUSSIAN_CLUSTER_SPREAD);
+			for (int i = 0; i < amount; ++i) {
+				int row = (int) Math.round(CENTER_ROW + random.nextGaussian() * DEVIATION);
+				int column = (int) Math.round(CENTER_COLUMN + random.nextGaussian() * DEVIATION);
+				addRandomWalk(Math.max(0, Math.min(row, rows - 1)), Math.max(0, Math.min(column, columns - 1)));
+			}
+			break;
+		case UNIQUE_CELL:
+			addUniqueRandomWalks(amount, random);
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown seeding distribution: " + distribution);
+		}
+		return randomWalks.size() - FIRST;
+	}
+
+	/**
+	 * Adds random walks at different positions chosen uniformly at random, with
+	 * Floyd's sampling algorithm: it needs one random number per random walk and
+	 * a set of the chosen positions, which is an occupancy grid.
+	 * @param amount Amount of random walks to add.
+	 * @param random Random numbers stream used to choose the positions.
+	 */
+	private void addUniqueRandomWalks(int amount, RandomStream random) {
+		final long CELLS = (long) rows * columns;
+		if (amount > CELLS) {
+			throw new IllegalArgumentException("There are not " + amount + " different positions.");
+		}
+		OccupancyGrid chosen = OccupancyGrids.forLattice(rows, columns, amount);
+		for (long last = CELLS - amount; last < CELLS; ++last) {
+			long cell = random.nextLong(last + 1);
+			if (!chosen.occupy((int) (cell / columns), (int) (cell % columns))) {
+				cell = last;
+				chosen.occupy((int) (cell / columns), (int) (cell % columns));
+			}
+			addRandomWalk((int) (cell / columns), (int) (cell % columns));
+		}
+	}
+
+	/**
+	 * Establishes the amount of threads used to step the random walks. When the
+	 * collisions are not allowed and the parallelism is greater than one, the
+	 * occupancy grid is shared by the threads: an off-heap grid enables its
+	 * concurrent access in place, and a packed one is copied word by word to a
+	 * concurrent grid. A sparse grid is kept as it is, so those random walks are
+	 * still stepped sequentially.
+	 * @param parallelism Amount of threads, one for sequential stepping.
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Wrong parallelism: " + parallelism);
+		}
+		if (pool != null) {
+			pool.shutdown();
+			pool = null;
+		}
+		this.parallelism = parallelism;
+		if (occupancy instanceof OffHeapOccupancyGrid) {
+			((OffHeapOccupancyGrid) occupancy).setConcurrent(parallelism > 1);
+		}
+		if (parallelism > 1) {
+			pool = new ForkJoinPool(parallelism);
+			if (!allowCollisions && !occupancy.isConcurrent() && !(occupancy instanceof SparseOccupancyGrid)) {
+				occupancy = OccupancyGrids.concurrentCopy(occupancy);
+			}
+		}
+	}
+
+	/**
+	 * Getter method for parallelism attribute.
+	 * @return parallelism
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Establishes the algorithm of the random numbers streams. It must be
+	 * chosen before adding the first random walk.
+	 * @param randomAlgorithm Random numbers generator algorithm.
+	 */
+	public void setRandomAlgorithm(RandomAlgorithm randomAlgorithm) {
+		if (randomWalks.size() > 0) {
+			throw new IllegalStateException("The random algorithm must be chosen before adding random walks.");
+		}
+		this.randomAlgorithm = randomAlgorithm;
+		randomWalks = new WalkerStore(randomAlgorithm.getStateLength());
+	}
+
+	/**
+	 * Getter method for randomAlgorithm attribute.
+	 * @return randomAlgorithm
+	 */
+	public RandomAlgorithm getRandomAlgorithm() {
+		return randomAlgorithm;
+	}
+
+	/**
+	 * Creates a random numbers stream derived from the master seed, independent
+	 * from the streams of the random walks, which use non-negative indexes.
+	 * @param stream Index of the stream, must be negative.
+	 * @return New random numbers stream.
+	 */
+	public RandomStream createRandomStream(long stream) {
+		if (stream >= 0) {
+			throw new IllegalArgumentException("The non-negative streams belong to the random walks: " + stream);
+		}
+		return new RandomStream(randomAlgorithm, seed, stream);
+	}
+
+	/**
+	 * Getter method for occupancy attribute.
+	 * @return occupancy, null when the collisions are allowed.
+	 */
+	public OccupancyGrid getOccupancy() {
+		return occupancy;
+	}
+
+	/**
+	 * Getter method for seed attribute.
+	 * @return seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the amount of random walks of the model.
+	 * @return Amount of random walks.
+	 */
+	public int getAmountOfRandomWalks() {
+		return randomWalks.size();
+	}
+
+	/**
+	 * Getter method for iterations attribute.
+	 * @return iterations
+	 */
+	public long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Returns the amount of random walks which have not finished.
+	 * @return Amount of active random walks.
+	 */
+	public int getAmountOfActiveWalkers() {
+		return amountOfActiveWalkers;
+	}
+
+	/**
+	 * Returns the random walk at a position of the active ones, which is the
+	 * order their moves have in the next iteration.
+	 * @param position Position between 0 and the amount of active random walks.
+	 * @return Index of the random walk.
+	 */
+	public int getActiveWalker(int position) {
+		if (position < 0 || position >= amountOfActiveWalkers) {
+			throw new IndexOutOfBoundsException("Position " + position + " of " + amountOfActiveWalkers);
+		}
+		return activeWalkers[position];
+	}
+
+	/**
+	 * Returns if the simulation has terminated, because every random walk has
+	 * finished.
+	 * @return True if no random walk can move any more.
+	 */
+	public boolean isTerminated() {
+		return amountOfActiveWalkers == 0;
+	}
+
+	/**
+	 * Returns the row of the last point of a random walk.
+	 * @param walker Index of the random walk.
+	 * @return Current row.
+	 */
+	public int getCurrentRow(int walker) {
+		return randomWalks.getCurrentRow(walker);
+	}
+
+	/**
+	 * Returns the column of the last point of a random walk.
+	 * @param walker Index of the random walk.
+	 * @return Current column.
+	 */
+	public int getCurrentColumn(int walker) {
+		return randomWalks.getCurrentColumn(walker);
+	}
+
+	/**
+	 * Returns if a random walk has finished.
+	 * @param walker Index of the random walk.
+	 * @return True if the random walk has finished.
+	 */
+	public boolean isFinished(int walker) {
+		return randomWalks.isFinished(walker);
+	}
+
+	/**
+	 * Getter method for rows attribute.
+	 * @return rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter method for columns attribute.
+	 * @return columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Getter method for allowCollisions attribute.
+	 * @return allowCollisions
+	 */
+	public boolean isAllowCollisions() {
+		return allowCollisions;
+	}
+}
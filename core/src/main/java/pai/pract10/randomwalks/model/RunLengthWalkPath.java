@@ -0,0 +1,168 @@
+/**
+ * File containing the RunLengthWalkPath entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents a walk path stored as its starting point followed by
+ * runs of steps in the same direction, each one packed in an int as the
+ * direction code and the length of the run. It takes less memory than a
+ * CompactWalkPath when the walks go straight for long, for example in
+ * analysis of biased walks, and more when they turn often. It was created for
+ * the tenth practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class RunLengthWalkPath implements WalkPath {
+
+	/** Bits of the length of a run. */
+	private static final int	LENGTH_BITS		= 30;
+	/** Maximum length of a run. */
+	private static final int	MAX_LENGTH		= (1 << LENGTH_BITS) - 1;
+	/** Initial amount of runs of the path. */
+	private static final int	INITIAL_RUNS	= 8;
+	/** Row of the first point. */
+	private final int					startRow;
+	/** Column of the first point. */
+	private final int					startColumn;
+	/** Row of the last point. */
+	private int								lastRow;
+	/** Column of the last point. */
+	private int								lastColumn;
+	/** Direction code and length of each run. */
+	private int[]							runs;
+	/** Amount of runs. */
+	private int								amountOfRuns;
+	/** Amount of steps. */
+	private int								steps;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param startRow Row of the first point.
+	 * @param startColumn Column of the first point.
+	 */
+	public RunLengthWalkPath(int startRow, int startColumn) {
+		this.startRow = lastRow = startRow;
+		this.startColumn = lastColumn = startColumn;
+		runs = new int[INITIAL_RUNS];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#addPoint(int, int)
+	 */
+	@Override
+	public void addPoint(int row, int column) {
+		final int DIRECTION = WalkStepper.directionBetween(lastRow, lastColumn, row, column);
+		if (amountOfRuns > 0 && (runs[amountOfRuns - 1] >>> LENGTH_BITS) == DIRECTION
+				&& (runs[amountOfRuns - 1] & MAX_LENGTH) < MAX_LENGTH) {
+			runs[amountOfRuns - 1]++;
+		} else {
+			if (amountOfRuns == runs.length) {
+				runs = Arrays.copyOf(runs, runs.length * 2);
+			}
+			runs[amountOfRuns++] = (DIRECTION << LENGTH_BITS) | 1;
+		}
+		steps++;
+		lastRow = row;
+		lastColumn = column;
+	}
+
+	/**
+	 * Returns the amount of runs of steps in the same direction.
+	 *
+	 * @return Amount of runs.
+	 */
+	public int getAmountOfRuns() {
+		return amountOfRuns;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getAmountOfPoints()
+	 */
+	@Override
+	public int getAmountOfPoints() {
+		return steps + 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastRow()
+	 */
+	@Override
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastColumn()
+	 */
+	@Override
+	public int getLastColumn() {
+		return lastColumn;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#cursor()
+	 */
+	@Override
+	public PathCursor cursor() {
+		return new PathCursor() {
+			/** Run of the current point, -1 before the first step. */
+			private int			run				= -1;
+			/** Steps of the current run still to be done. */
+			private int			remaining	= 0;
+			/** Establishes if the cursor is on a point. */
+			private boolean	started		= false;
+			/** Row of the current point. */
+			private int			row				= startRow;
+			/** Column of the current point. */
+			private int			column		= startColumn;
+
+			@Override
+			public boolean next() {
+				if (!started) {
+					started = true;
+					return true;
+				}
+				if (remaining == 0) {
+					if (run + 1 >= amountOfRuns) {
+						return false;
+					}
+					run++;
+					remaining = runs[run] & MAX_LENGTH;
+				}
+				final int DIRECTION = runs[run] >>> LENGTH_BITS;
+				row += WalkStepper.rowOffset(DIRECTION);
+				column += WalkStepper.columnOffset(DIRECTION);
+				remaining--;
+				return true;
+			}
+
+			@Override
+			public int getRow() {
+				return row;
+			}
+
+			@Override
+			public int getColumn() {
+				return column;
+			}
+		};
+	}
+}
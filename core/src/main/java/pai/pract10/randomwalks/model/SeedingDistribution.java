@@ -0,0 +1,61 @@
+/**
+ * File containing the SeedingDistribution entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Enumeration which represents the ways the starting positions of many random
+ * walks can be chosen at once by RandomWalksModel.addRandomWalks(). It was
+ * created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public enum SeedingDistribution {
+	/** Each position is chosen uniformly at random, so two random walks can share it. */
+	UNIFORM("uniform"),
+	/** The positions follow a normal distribution around a random center. */
+	GAUSSIAN_CLUSTER("gaussian"),
+	/** The positions are chosen uniformly at random, but all of them are different. */
+	UNIQUE_CELL("unique");
+
+	/** Name of the distribution, as written in the command line. */
+	private final String name;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param name Name of the distribution.
+	 */
+	private SeedingDistribution(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Getter method for name attribute.
+	 *
+	 * @return name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the distribution with the given name.
+	 *
+	 * @param name Name of the distribution.
+	 * @return Distribution with that name.
+	 * @throws IllegalArgumentException If there is no distribution with that name.
+	 */
+	public static SeedingDistribution forName(String name) {
+		for (SeedingDistribution distribution : values()) {
+			if (distribution.name.equalsIgnoreCase(name)) {
+				return distribution;
+			}
+		}
+		throw new IllegalArgumentException("Unknown seeding distribution: " + name);
+	}
+}
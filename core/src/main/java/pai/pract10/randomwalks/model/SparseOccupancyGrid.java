@@ -0,0 +1,177 @@
+/**
+ * File containing the SparseOccupancyGrid entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which represents an occupancy grid split in tiles of 64x64 positions.
+ * A tile is a long per row and it is only allocated when one of its positions
+ * is occupied, so the memory grows with the visited area instead of with the
+ * size of the space. It must be used by one thread at a time. It was created
+ * for the tenth practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class SparseOccupancyGrid implements OccupancyGrid {
+
+	/** Base 2 logarithm of the side of a tile. */
+	public static final int	TILE_SHIFT	= 6;
+	/** Side of a tile. */
+	public static final int	TILE_SIDE		= 1 << TILE_SHIFT;
+	/** Mask which returns the position of a row or a column inside its tile. */
+	private static final int	TILE_MASK		= TILE_SIDE - 1;
+	/** Amount of rows of the grid. */
+	private final int					rows;
+	/** Amount of columns of the grid. */
+	private final int					columns;
+	/** Allocated tiles, by tile row and tile column. */
+	private final TileMap			tiles;
+
+	/**
+	 * Default constructor. Every position starts free.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 */
+	public SparseOccupancyGrid(int rows, int columns) {
+		this(rows, columns, new TileMap());
+	}
+
+	/**
+	 * Constructor with the tiles of the grid.
+	 *
+	 * @param rows Amount of rows of the grid.
+	 * @param columns Amount of columns of the grid.
+	 * @param tiles Tiles of the occupied area.
+	 */
+	private SparseOccupancyGrid(int rows, int columns, TileMap tiles) {
+		this.rows = rows;
+		this.columns = columns;
+		this.tiles = tiles;
+	}
+
+	/**
+	 * Returns the key of the tile which contains a position.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 * @return Key of the tile.
+	 */
+	private static long tileKey(int row, int column) {
+		return ((long) (row >> TILE_SHIFT) << 32) | ((column >> TILE_SHIFT) & 0xffffffffL);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isOccupied(int, int)
+	 */
+	@Override
+	public boolean isOccupied(int row, int column) {
+		long[] tile = tiles.get(tileKey(row, column));
+		return tile != null && (tile[row & TILE_MASK] & (1L << column)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#occupy(int, int)
+	 */
+	@Override
+	public boolean occupy(int row, int column) {
+		long[] tile = tiles.getOrCreate(tileKey(row, column), TILE_SIDE);
+		long bit = 1L << column;
+		if ((tile[row & TILE_MASK] & bit) != 0) {
+			return false;
+		}
+		tile[row & TILE_MASK] |= bit;
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#forEachOccupied(pai.pract10.randomwalks.model.CellVisitor)
+	 */
+	@Override
+	public void forEachOccupied(CellVisitor visitor) {
+		for (int slot = 0; slot < tiles.capacity(); ++slot) {
+			long key = tiles.keyAt(slot);
+			if (key == TileMap.EMPTY_KEY) {
+				continue;
+			}
+			int firstRow = (int) (key >> 32) << TILE_SHIFT;
+			int firstColumn = (int) key << TILE_SHIFT;
+			long[] tile = tiles.tileAt(slot);
+			for (int i = 0; i < TILE_SIDE; ++i) {
+				long bits = tile[i];
+				while (bits != 0) {
+					visitor.visit(firstRow + i, firstColumn + Long.numberOfTrailingZeros(bits));
+					bits &= bits - 1;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Getter method for tiles attribute.
+	 *
+	 * @return Tiles of the occupied area, each one with a word per row.
+	 */
+	TileMap getTiles() {
+		return tiles;
+	}
+
+	/**
+	 * Returns the amount of allocated tiles.
+	 *
+	 * @return Amount of tiles.
+	 */
+	public int getAllocatedTiles() {
+		return tiles.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#copy()
+	 */
+	@Override
+	public OccupancyGrid copy() {
+		return new SparseOccupancyGrid(rows, columns, tiles.copy());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#isConcurrent()
+	 */
+	@Override
+	public boolean isConcurrent() {
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getRows()
+	 */
+	@Override
+	public int getRows() {
+		return rows;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.OccupancyGrid#getColumns()
+	 */
+	@Override
+	public int getColumns() {
+		return columns;
+	}
+}
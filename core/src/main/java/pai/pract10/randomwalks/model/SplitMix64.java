@@ -0,0 +1,63 @@
+/**
+ * File containing the SplitMix64 entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which contains the SplitMix64 random numbers generator as static
+ * functions over a long state, so every walker can keep its own independent
+ * stream in a primitive array. It was created for the tenth practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class SplitMix64 {
+
+	/** Increment of the state on each generated number. */
+	public static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private SplitMix64() {
+	}
+
+	/**
+	 * Returns the initial state of the stream of a walker, derived from a master
+	 * seed and the index of the walker.
+	 *
+	 * @param seed Master seed.
+	 * @param stream Index of the stream.
+	 * @return Initial state of the stream.
+	 */
+	public static long streamState(long seed, long stream) {
+		return mix(seed + stream * GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Returns the state which follows the given one.
+	 *
+	 * @param state Current state.
+	 * @return Next state.
+	 */
+	public static long nextState(long state) {
+		return state + GOLDEN_GAMMA;
+	}
+
+	/**
+	 * Scrambles a state into a random 64 bits value.
+	 *
+	 * @param state State to scramble.
+	 * @return Random value.
+	 */
+	public static long mix(long state) {
+		long z = state;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,60 @@
+/**
+ * File containing the SplitMixAlgorithm entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which implements the SplitMix64 algorithm, the one used by
+ * java.util.SplittableRandom. Its state is a single long. It was created for
+ * the tenth practice of PAI (Programación de Aplicaciones Interactivas) course
+ * of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class SplitMixAlgorithm implements RandomAlgorithm {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getName()
+	 */
+	@Override
+	public String getName() {
+		return "splitmix";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getStateLength()
+	 */
+	@Override
+	public int getStateLength() {
+		return 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#seed(long[], int, long, long)
+	 */
+	@Override
+	public void seed(long[] states, int offset, long seed, long stream) {
+		states[offset] = SplitMix64.streamState(seed, stream);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#nextInt(long[], int)
+	 */
+	@Override
+	public int nextInt(long[] states, int offset) {
+		long state = SplitMix64.nextState(states[offset]);
+		states[offset] = state;
+		return (int) (SplitMix64.mix(state) >>> 32);
+	}
+}
@@ -0,0 +1,195 @@
+/**
+ * File containing the TailPath entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which represents a walk path which only keeps its last points. The
+ * direction codes of the steps are stored in a fixed capacity ring buffer, and
+ * when it is full the oldest step is dropped by moving the first point forward,
+ * so the memory used does not depend on the length of the walk. It was created
+ * for the tenth practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class TailPath implements WalkPath {
+
+	/** Row of the first kept point. */
+	private int						firstRow;
+	/** Column of the first kept point. */
+	private int						firstColumn;
+	/** Row of the last point. */
+	private int						lastRow;
+	/** Column of the last point. */
+	private int						lastColumn;
+	/** Direction codes of the kept steps, from head on. */
+	private final byte[]	codes;
+	/** Position of the oldest kept step in the ring buffer. */
+	private int						head;
+	/** Amount of kept steps. */
+	private int						steps;
+	/** Amount of points dropped from the start of the path. */
+	private long					droppedPoints;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param startRow Row of the first point.
+	 * @param startColumn Column of the first point.
+	 * @param tailLength Maximum amount of points kept, at least 2.
+	 */
+	public TailPath(int startRow, int startColumn, int tailLength) {
+		if (tailLength < 2) {
+			throw new IllegalArgumentException("Invalid tail length : " + tailLength);
+		}
+		firstRow = lastRow = startRow;
+		firstColumn = lastColumn = startColumn;
+		codes = new byte[tailLength - 1];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#addPoint(int, int)
+	 */
+	@Override
+	public void addPoint(int row, int column) {
+		final int DIRECTION = WalkStepper.directionBetween(lastRow, lastColumn, row, column);
+		if (steps == codes.length) {
+			final int OLDEST = codes[head];
+			firstRow += WalkStepper.rowOffset(OLDEST);
+			firstColumn += WalkStepper.columnOffset(OLDEST);
+			head = (head + 1) % codes.length;
+			steps--;
+			droppedPoints++;
+		}
+		codes[(head + steps) % codes.length] = (byte) DIRECTION;
+		steps++;
+		lastRow = row;
+		lastColumn = column;
+	}
+
+	/**
+	 * Returns the maximum amount of points kept.
+	 *
+	 * @return Tail length.
+	 */
+	public int getTailLength() {
+		return codes.length + 1;
+	}
+
+	/**
+	 * Getter method for firstRow attribute.
+	 *
+	 * @return Row of the first kept point.
+	 */
+	public int getFirstRow() {
+		return firstRow;
+	}
+
+	/**
+	 * Getter method for firstColumn attribute.
+	 *
+	 * @return Column of the first kept point.
+	 */
+	public int getFirstColumn() {
+		return firstColumn;
+	}
+
+	/**
+	 * Returns the direction code of a kept step, in constant time.
+	 *
+	 * @param step Index of the step, 0 for the oldest one.
+	 * @return Direction code of the step.
+	 */
+	public int getDirection(int step) {
+		if (step < 0 || step >= steps) {
+			throw new IndexOutOfBoundsException("Wrong step: " + step);
+		}
+		return codes[(head + step) % codes.length];
+	}
+
+	/**
+	 * Getter method for droppedPoints attribute.
+	 *
+	 * @return droppedPoints
+	 */
+	public long getDroppedPoints() {
+		return droppedPoints;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getAmountOfPoints()
+	 */
+	@Override
+	public int getAmountOfPoints() {
+		return steps + 1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastRow()
+	 */
+	@Override
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#getLastColumn()
+	 */
+	@Override
+	public int getLastColumn() {
+		return lastColumn;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see pai.pract10.randomwalks.model.WalkPath#cursor()
+	 */
+	@Override
+	public PathCursor cursor() {
+		return new PathCursor() {
+			/** Step which leads to the current point, -1 at the first one and -2 before it. */
+			private int	step		= -2;
+			/** Row of the current point. */
+			private int	row			= firstRow;
+			/** Column of the current point. */
+			private int	column	= firstColumn;
+
+			@Override
+			public boolean next() {
+				if (step + 1 >= steps) {
+					return false;
+				}
+				step++;
+				if (step >= 0) {
+					final int DIRECTION = codes[(head + step) % codes.length];
+					row += WalkStepper.rowOffset(DIRECTION);
+					column += WalkStepper.columnOffset(DIRECTION);
+				}
+				return true;
+			}
+
+			@Override
+			public int getRow() {
+				return row;
+			}
+
+			@Override
+			public int getColumn() {
+				return column;
+			}
+		};
+	}
+}
@@ -0,0 +1,174 @@
+/**
+ * File containing the TileMap entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.Arrays;
+
+/**
+ * Class which represents a hash map from long keys to tiles of bits, with open
+ * addressing over primitive arrays so the keys are never boxed. It was created
+ * for the tenth practice of PAI (Programación de Aplicaciones Interactivas)
+ * course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+class TileMap {
+
+	/** Key of the empty slots. */
+	static final long					EMPTY_KEY					= Long.MIN_VALUE;
+	/** Initial amount of slots, must be a power of two. */
+	private static final int	INITIAL_CAPACITY	= 64;
+	/** Keys of the slots. */
+	private long[]						keys;
+	/** Tiles of the slots. */
+	private long[][]					tiles;
+	/** Amount of tiles of the map. */
+	private int								size;
+
+	/**
+	 * Default constructor.
+	 */
+	TileMap() {
+		keys = new long[INITIAL_CAPACITY];
+		Arrays.fill(keys, EMPTY_KEY);
+		tiles = new long[INITIAL_CAPACITY][];
+		size = 0;
+	}
+
+	/**
+	 * Returns the tile of a key.
+	 *
+	 * @param key Key of the tile.
+	 * @return Tile, or null if the map does not contain the key.
+	 */
+	long[] get(long key) {
+		int mask = keys.length - 1;
+		for (int slot = slot(key, mask);; slot = (slot + 1) & mask) {
+			if (keys[slot] == key) {
+				return tiles[slot];
+			}
+			if (keys[slot] == EMPTY_KEY) {
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the tile of a key, creating it if the map does not contain the key.
+	 *
+	 * @param key Key of the tile.
+	 * @param tileLength Length of the new tile.
+	 * @return Tile.
+	 */
+	long[] getOrCreate(long key, int tileLength) {
+		int mask = keys.length - 1;
+		int slot = slot(key, mask);
+		while (keys[slot] != EMPTY_KEY) {
+			if (keys[slot] == key) {
+				return tiles[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		if ((size + 1) * 4 > keys.length * 3) {
+			grow();
+			return getOrCreate(key, tileLength);
+		}
+		keys[slot] = key;
+		tiles[slot] = new long[tileLength];
+		size++;
+		return tiles[slot];
+	}
+
+	/**
+	 * Creates an independent copy of the map, with copies of its tiles.
+	 *
+	 * @return New map.
+	 */
+	TileMap copy() {
+		TileMap copy = new TileMap();
+		copy.keys = Arrays.copyOf(keys, keys.length);
+		copy.tiles = new long[tiles.length][];
+		for (int slot = 0; slot < tiles.length; ++slot) {
+			if (tiles[slot] != null) {
+				copy.tiles[slot] = Arrays.copyOf(tiles[slot], tiles[slot].length);
+			}
+		}
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * Returns the amount of tiles of the map.
+	 *
+	 * @return Amount of tiles.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the key of a slot.
+	 *
+	 * @param slot Slot of the map.
+	 * @return Key, EMPTY_KEY if the slot is empty.
+	 */
+	long keyAt(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * Returns the tile of a slot.
+	 *
+	 * @param slot Slot of the map.
+	 * @return Tile, null if the slot is empty.
+	 */
+	long[] tileAt(int slot) {
+		return tiles[slot];
+	}
+
+	/**
+	 * Returns the amount of slots of the map.
+	 *
+	 * @return Amount of slots.
+	 */
+	int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * Returns the first slot where a key is searched.
+	 *
+	 * @param key Key to search.
+	 * @param mask Mask of the slots.
+	 * @return First slot.
+	 */
+	private static int slot(long key, int mask) {
+		return (int) SplitMix64.mix(key) & mask;
+	}
+
+	/**
+	 * Doubles the amount of slots of the map.
+	 */
+	private void grow() {
+		long[] oldKeys = keys;
+		long[][] oldTiles = tiles;
+		keys = new long[oldKeys.length * 2];
+		Arrays.fill(keys, EMPTY_KEY);
+		tiles = new long[oldKeys.length * 2][];
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; ++i) {
+			if (oldKeys[i] != EMPTY_KEY) {
+				int slot = slot(oldKeys[i], mask);
+				while (keys[slot] != EMPTY_KEY) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				tiles[slot] = oldTiles[i];
+			}
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * File containing the VisitCounts entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which counts the times each position of the space has been visited by
+ * any random walk, in a single int array in row-major order. The model counts
+ * the visits while it collects the moves of each iteration, which is done by a
+ * single thread even when the random walks are stepped in parallel, so the
+ * counters need neither locks nor atomic operations. They may be read from
+ * another thread while the simulation goes on, as the view does once per
+ * frame: each read value is a count the position had at some moment. The
+ * counts saturate at Integer.MAX_VALUE. It was created for the tenth practice
+ * of PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad
+ * de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class VisitCounts {
+
+	/** Amount of rows of the space. */
+	private final int			rows;
+	/** Amount of columns of the space. */
+	private final int			columns;
+	/** Times each position has been visited. */
+	private final int[]		counts;
+	/** Greatest count of any position. */
+	private volatile int	maximum;
+
+	/**
+	 * Default constructor. Every position starts without visits.
+	 *
+	 * @param rows Amount of rows of the space.
+	 * @param columns Amount of columns of the space.
+	 */
+	public VisitCounts(int rows, int columns) {
+		if ((long) rows * columns > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too big space to count the visits: " + rows + "x" + columns);
+		}
+		this.rows = rows;
+		this.columns = columns;
+		counts = new int[rows * columns];
+	}
+
+	/**
+	 * Counts a visit to a position. The positions out of the space, where the
+	 * random walks finish when the collisions are allowed, are not counted.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 */
+	void visit(int row, int column) {
+		if (row < 0 || column < 0 || row >= rows || column >= columns) {
+			return;
+		}
+		final int INDEX = row * columns + column;
+		final int COUNT = counts[INDEX];
+		if (COUNT != Integer.MAX_VALUE) {
+			counts[INDEX] = COUNT + 1;
+			if (COUNT == maximum) {
+				maximum = COUNT + 1;
+			}
+		}
+	}
+
+	/**
+	 * Returns the times a position has been visited.
+	 *
+	 * @param row Row of the position.
+	 * @param column Column of the position.
+	 * @return Amount of visits.
+	 */
+	public int getCount(int row, int column) {
+		return counts[row * columns + column];
+	}
+
+	/**
+	 * Returns the counters, which must not be modified. The count of a position
+	 * is at row * columns + column.
+	 *
+	 * @return Times each position has been visited.
+	 */
+	public int[] getCounts() {
+		return counts;
+	}
+
+	/**
+	 * Getter method for maximum attribute.
+	 *
+	 * @return Greatest count of any position.
+	 */
+	public int getMaximum() {
+		return maximum;
+	}
+
+	/**
+	 * Getter method for rows attribute.
+	 *
+	 * @return rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter method for columns attribute.
+	 *
+	 * @return columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+}
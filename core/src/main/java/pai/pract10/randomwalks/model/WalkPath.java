@@ -0,0 +1,56 @@
+/**
+ * File containing the WalkPath entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Interface which represents the sequence of points followed by a random walk.
+ * Each point after the first one must be adjacent to the previous one, so the
+ * implementations can store a step direction instead of a whole point. It was
+ * created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public interface WalkPath {
+
+	/**
+	 * Adds a point at the end of the path.
+	 *
+	 * @param row Row of the point.
+	 * @param column Column of the point.
+	 * @throws IllegalArgumentException If the point is not adjacent to the last one.
+	 */
+	void addPoint(int row, int column);
+
+	/**
+	 * Returns the amount of points of the path.
+	 *
+	 * @return Amount of points.
+	 */
+	int getAmountOfPoints();
+
+	/**
+	 * Returns the row of the last point of the path.
+	 *
+	 * @return Row of the last point.
+	 */
+	int getLastRow();
+
+	/**
+	 * Returns the column of the last point of the path.
+	 *
+	 * @return Column of the last point.
+	 */
+	int getLastColumn();
+
+	/**
+	 * Returns a cursor over the points of the path, from the first one.
+	 *
+	 * @return New cursor.
+	 */
+	PathCursor cursor();
+}
@@ -0,0 +1,151 @@
+/**
+ * File containing the WalkStepper entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which contains the stepping rules of the random walks. The possible
+ * next points of a walk are encoded as a bitmask of directions, so a step can
+ * be calculated without creating any object. It was created for the tenth
+ * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+ * (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class WalkStepper {
+
+	/** Direction code of a step to the previous row. */
+	public static final int	UP							= 0;
+	/** Direction code of a step to the next row. */
+	public static final int	DOWN						= 1;
+	/** Direction code of a step to the previous column. */
+	public static final int	LEFT						= 2;
+	/** Direction code of a step to the next column. */
+	public static final int	RIGHT						= 3;
+	/** Amount of possible directions. */
+	public static final int	DIRECTIONS			= 4;
+	/** Mask with every direction allowed. */
+	public static final int	ALL_DIRECTIONS	= (1 << DIRECTIONS) - 1;
+	/** Row offset of each direction. */
+	private static final int[]	ROW_OFFSETS			= { -1, 1, 0, 0 };
+	/** Column offset of each direction. */
+	private static final int[]	COLUMN_OFFSETS	= { 0, 0, -1, 1 };
+
+	/**
+	 * Private constructor, this class only contains static methods.
+	 */
+	private WalkStepper() {
+	}
+
+	/**
+	 * Calculates the directions a random walk can follow from its current point.
+	 * The rules are the ones of RandomWalk.getPossibleNextPoints(): when the
+	 * collisions are allowed every direction is possible, otherwise the walk can
+	 * not leave the space, enter an occupied position or go back to its previous
+	 * point.
+	 *
+	 * @param currentRow Row of the current point.
+	 * @param currentColumn Column of the current point.
+	 * @param oldRow Row of the previous point.
+	 * @param oldColumn Column of the previous point.
+	 * @param rows Total rows.
+	 * @param columns Total columns.
+	 * @param allowCollisions Establishes if the collisions between random walks are allowed.
+	 * @param occupancy Occupied positions, not used when the collisions are allowed.
+	 * @return Bitmask with a bit set for each possible direction.
+	 */
+	public static int possibleDirections(int currentRow, int currentColumn,
+			int oldRow, int oldColumn, int rows, int columns, boolean allowCollisions,
+			OccupancyGrid occupancy) {
+		if (allowCollisions) {
+			return ALL_DIRECTIONS;
+		}
+		int directions = 0;
+		if (currentRow > 0 && currentRow - 1 != oldRow
+				&& !occupancy.isOccupied(currentRow - 1, currentColumn)) {
+			directions |= 1 << UP;
+		}
+		if (currentRow < rows - 1 && currentRow + 1 != oldRow
+				&& !occupancy.isOccupied(currentRow + 1, currentColumn)) {
+			directions |= 1 << DOWN;
+		}
+		if (currentColumn > 0 && currentColumn - 1 != oldColumn
+				&& !occupancy.isOccupied(currentRow, currentColumn - 1)) {
+			directions |= 1 << LEFT;
+		}
+		if (currentColumn < columns - 1 && currentColumn + 1 != oldColumn
+				&& !occupancy.isOccupied(currentRow, currentColumn + 1)) {
+			directions |= 1 << RIGHT;
+		}
+		return directions;
+	}
+
+	/**
+	 * Returns the direction which is in the given position among the directions
+	 * of a bitmask, following the order UP, DOWN, LEFT, RIGHT.
+	 *
+	 * @param directions Bitmask of directions.
+	 * @param index Position of the wanted direction, lower than the amount of
+	 *          directions of the bitmask.
+	 * @return Direction code.
+	 */
+	public static int nthDirection(int directions, int index) {
+		for (int i = 0; i < index; ++i) {
+			directions &= directions - 1;
+		}
+		return Integer.numberOfTrailingZeros(directions);
+	}
+
+	/**
+	 * Returns the amount of directions of a bitmask.
+	 *
+	 * @param directions Bitmask of directions.
+	 * @return Amount of directions.
+	 */
+	public static int countDirections(int directions) {
+		return Integer.bitCount(directions);
+	}
+
+	/**
+	 * Returns the row offset of a direction.
+	 *
+	 * @param direction Direction code.
+	 * @return Row offset.
+	 */
+	public static int rowOffset(int direction) {
+		return ROW_OFFSETS[direction];
+	}
+
+	/**
+	 * Returns the column offset of a direction.
+	 *
+	 * @param direction Direction code.
+	 * @return Column offset.
+	 */
+	public static int columnOffset(int direction) {
+		return COLUMN_OFFSETS[direction];
+	}
+
+	/**
+	 * Returns the direction of a step between two adjacent points.
+	 *
+	 * @param fromRow Row of the first point.
+	 * @param fromColumn Column of the first point.
+	 * @param toRow Row of the second point.
+	 * @param toColumn Column of the second point.
+	 * @return Direction code.
+	 * @throws IllegalArgumentException If the points are not adjacent.
+	 */
+	public static int directionBetween(int fromRow, int fromColumn, int toRow, int toColumn) {
+		for (int direction = 0; direction < DIRECTIONS; ++direction) {
+			if (fromRow + ROW_OFFSETS[direction] == toRow && fromColumn + COLUMN_OFFSETS[direction] == toColumn) {
+				return direction;
+			}
+		}
+		throw new IllegalArgumentException("Not adjacent points : (" + fromRow + ", " + fromColumn + ") and ("
+				+ toRow + ", " + toColumn + ")");
+	}
+}
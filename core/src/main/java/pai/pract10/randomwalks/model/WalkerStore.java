@@ -0,0 +1,224 @@
+/**
+ * File containing the WalkerStore entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Class which stores the state of every random walk of the RandomWalks program
+ * in parallel primitive arrays, one entry per walker, instead of one object per
+ * walker. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class WalkerStore {
+
+	/** Initial capacity of the store. */
+	private static final int	INITIAL_CAPACITY	= 16;
+	/** Row of the last point of each walker. */
+	private int[]							currentRows;
+	/** Column of the last point of each walker. */
+	private int[]							currentColumns;
+	/** Row of the previous point of the last point of each walker. */
+	private int[]							oldRows;
+	/** Column of the previous point of the last point of each walker. */
+	private int[]							oldColumns;
+	/** State of the random numbers stream of each walker, one after another. */
+	private long[]						randomStates;
+	/** Amount of longs of the random state of a walker. */
+	private final int					randomStateLength;
+	/** Establishes which walkers have finished. */
+	private BitSet						finished;
+	/** Amount of walkers of the store. */
+	private int								size;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param randomStateLength Amount of longs of the random state of a walker.
+	 */
+	public WalkerStore(int randomStateLength) {
+		this.randomStateLength = randomStateLength;
+		currentRows = new int[INITIAL_CAPACITY];
+		currentColumns = new int[INITIAL_CAPACITY];
+		oldRows = new int[INITIAL_CAPACITY];
+		oldColumns = new int[INITIAL_CAPACITY];
+		randomStates = new long[INITIAL_CAPACITY * randomStateLength];
+		finished = new BitSet(INITIAL_CAPACITY);
+		size = 0;
+	}
+
+	/**
+	 * Adds a new walker to the store. The arrays double their capacity when they
+	 * are full, so adding is amortized O(1).
+	 *
+	 * @param startingRow Starting row of the new walker.
+	 * @param startingColumn Starting column of the new walker.
+	 * @return Index of the new walker.
+	 */
+	public int add(int startingRow, int startingColumn) {
+		if (size == currentRows.length) {
+			int newCapacity = currentRows.length * 2;
+			currentRows = Arrays.copyOf(currentRows, newCapacity);
+			currentColumns = Arrays.copyOf(currentColumns, newCapacity);
+			oldRows = Arrays.copyOf(oldRows, newCapacity);
+			oldColumns = Arrays.copyOf(oldColumns, newCapacity);
+			randomStates = Arrays.copyOf(randomStates, newCapacity * randomStateLength);
+		}
+		currentRows[size] = startingRow;
+		currentColumns[size] = startingColumn;
+		oldRows[size] = -1;
+		oldColumns[size] = -1;
+		return size++;
+	}
+
+	/**
+	 * Moves a walker to a new point, the current point becomes the previous one.
+	 *
+	 * @param walker Index of the walker.
+	 * @param row Row of the new point.
+	 * @param column Column of the new point.
+	 */
+	public void moveTo(int walker, int row, int column) {
+		oldRows[walker] = currentRows[walker];
+		oldColumns[walker] = currentColumns[walker];
+		currentRows[walker] = row;
+		currentColumns[walker] = column;
+	}
+
+	/**
+	 * Establishes the previous point of the last point of a walker, to restore
+	 * a walker which had already moved.
+	 *
+	 * @param walker Index of the walker.
+	 * @param row Old row.
+	 * @param column Old column.
+	 */
+	void setOldPoint(int walker, int row, int column) {
+		oldRows[walker] = row;
+		oldColumns[walker] = column;
+	}
+
+	/**
+	 * Creates a copy of the store, independent from it.
+	 *
+	 * @return New store with the same walkers.
+	 */
+	public WalkerStore copy() {
+		final int CAPACITY = Math.max(size, INITIAL_CAPACITY);
+		WalkerStore copy = new WalkerStore(randomStateLength);
+		copy.currentRows = Arrays.copyOf(currentRows, CAPACITY);
+		copy.currentColumns = Arrays.copyOf(currentColumns, CAPACITY);
+		copy.oldRows = Arrays.copyOf(oldRows, CAPACITY);
+		copy.oldColumns = Arrays.copyOf(oldColumns, CAPACITY);
+		copy.randomStates = Arrays.copyOf(randomStates, CAPACITY * randomStateLength);
+		copy.finished = (BitSet) finished.clone();
+		copy.size = size;
+		return copy;
+	}
+
+	/**
+	 * Getter method for randomStateLength attribute.
+	 *
+	 * @return randomStateLength
+	 */
+	public int getRandomStateLength() {
+		return randomStateLength;
+	}
+
+	/**
+	 * Returns the amount of walkers of the store.
+	 *
+	 * @return Amount of walkers.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the row of the last point of a walker.
+	 *
+	 * @param walker Index of the walker.
+	 * @return Current row.
+	 */
+	public int getCurrentRow(int walker) {
+		return currentRows[walker];
+	}
+
+	/**
+	 * Returns the column of the last point of a walker.
+	 *
+	 * @param walker Index of the walker.
+	 * @return Current column.
+	 */
+	public int getCurrentColumn(int walker) {
+		return currentColumns[walker];
+	}
+
+	/**
+	 * Returns the row of the previous point of the last point of a walker.
+	 *
+	 * @param walker Index of the walker.
+	 * @return Old row.
+	 */
+	public int getOldRow(int walker) {
+		return oldRows[walker];
+	}
+
+	/**
+	 * Returns the column of the previous point of the last point of a walker.
+	 *
+	 * @param walker Index of the walker.
+	 * @return Old column.
+	 */
+	public int getOldColumn(int walker) {
+		return oldColumns[walker];
+	}
+
+	/**
+	 * Returns the array with the random states of the walkers. The state of a
+	 * walker starts at getRandomStateOffset(walker). The array is replaced when
+	 * the store grows.
+	 *
+	 * @return Random states.
+	 */
+	public long[] getRandomStates() {
+		return randomStates;
+	}
+
+	/**
+	 * Returns the position of the random state of a walker.
+	 *
+	 * @param walker Index of the walker.
+	 * @return Offset of the random state.
+	 */
+	public int getRandomStateOffset(int walker) {
+		return walker * randomStateLength;
+	}
+
+	/**
+	 * Returns if a walker has finished.
+	 *
+	 * @param walker Index of the walker.
+	 * @return True if the walker has finished.
+	 */
+	public boolean isFinished(int walker) {
+		return finished.get(walker);
+	}
+
+	/**
+	 * Marks a walker as finished. The flags share words, so this method must
+	 * not be called concurrently.
+	 *
+	 * @param walker Index of the walker.
+	 */
+	public void setFinished(int walker) {
+		finished.set(walker);
+	}
+}
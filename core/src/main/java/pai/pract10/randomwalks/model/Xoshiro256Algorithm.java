@@ -0,0 +1,81 @@
+/**
+ * File containing the Xoshiro256Algorithm entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+/**
+ * Class which implements the xoshiro256** algorithm of Blackman and Vigna. Its
+ * state is four longs, initialized with SplitMix64 as its authors recommend.
+ * It was created for the tenth practice of PAI (Programación de Aplicaciones
+ * Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class Xoshiro256Algorithm implements RandomAlgorithm {
+
+	/** Amount of longs of the state. */
+	private static final int STATE_LENGTH = 4;
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getName()
+	 */
+	@Override
+	public String getName() {
+		return "xoshiro256";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#getStateLength()
+	 */
+	@Override
+	public int getStateLength() {
+		return STATE_LENGTH;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#seed(long[], int, long, long)
+	 */
+	@Override
+	public void seed(long[] states, int offset, long seed, long stream) {
+		long state = SplitMix64.streamState(seed, stream);
+		for (int i = 0; i < STATE_LENGTH; ++i) {
+			state = SplitMix64.nextState(state);
+			states[offset + i] = SplitMix64.mix(state);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see pai.pract10.randomwalks.model.RandomAlgorithm#nextInt(long[], int)
+	 */
+	@Override
+	public int nextInt(long[] states, int offset) {
+		long s0 = states[offset];
+		long s1 = states[offset + 1];
+		long s2 = states[offset + 2];
+		long s3 = states[offset + 3];
+		long result = Long.rotateLeft(s1 * 5, 7) * 9;
+		long t = s1 << 17;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		states[offset] = s0;
+		states[offset + 1] = s1;
+		states[offset + 2] = s2;
+		states[offset + 3] = s3;
+		return (int) (result >>> 32);
+	}
+}
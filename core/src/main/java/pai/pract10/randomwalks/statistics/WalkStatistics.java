@@ -0,0 +1,422 @@
+/**
+ * File containing the WalkStatistics entity definition.
+ */
+
+package pai.pract10.randomwalks.statistics;
+
+import java.util.Arrays;
+
+import pai.pract10.randomwalks.model.IterationListener;
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.OccupancyGrid;
+import pai.pract10.randomwalks.model.OccupancyGrids;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which keeps statistics of the random walks of a model while it is
+ * simulated: mean squared displacement, distribution of the end-to-end
+ * distances, radius of gyration, survival time until each random walk finishes
+ * and amount of visited cells. Every move updates them in constant time and
+ * only a few values are kept per random walk, never its path: the displacement
+ * sums are updated with the difference of each move, the centroid of each
+ * random walk with Welford's algorithm, and the distances are counted in a
+ * histogram of unit bins. The displacements are measured from the points where
+ * the random walks were when the statistics started, and the survival times
+ * from that iteration. Its getters may be called from another thread than the
+ * simulation one. It was created for the tenth practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class WalkStatistics implements IterationListener {
+
+	/**
+	 * Class which keeps the mean and the variance of a sequence of values with
+	 * Welford's algorithm, without storing them. It was created for the tenth
+	 * practice of PAI (Programación de Aplicaciones Interactivas) course of ULL
+	 * (Universidad de la Laguna).
+	 *
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	public static final class RunningStatistics {
+		/** Amount of values. */
+		private long		count;
+		/** Mean of the values. */
+		private double	mean;
+		/** Sum of the squared differences from the mean. */
+		private double	squaredDifferences;
+		/** Minimum value. */
+		private double	minimum	= Double.POSITIVE_INFINITY;
+		/** Maximum value. */
+		private double	maximum	= Double.NEGATIVE_INFINITY;
+
+		/**
+		 * Adds a value.
+		 *
+		 * @param value Value to add.
+		 */
+		void add(double value) {
+			count++;
+			final double DELTA = value - mean;
+			mean += DELTA / count;
+			squaredDifferences += DELTA * (value - mean);
+			minimum = Math.min(minimum, value);
+			maximum = Math.max(maximum, value);
+		}
+
+		/**
+		 * Getter method for count attribute.
+		 *
+		 * @return count
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Getter method for mean attribute.
+		 *
+		 * @return Mean of the values, 0 if there are none.
+		 */
+		public double getMean() {
+			return mean;
+		}
+
+		/**
+		 * Returns the sample variance of the values.
+		 *
+		 * @return Variance, 0 if there are less than two values.
+		 */
+		public double getVariance() {
+			return count < 2 ? 0 : squaredDifferences / (count - 1);
+		}
+
+		/**
+		 * Getter method for minimum attribute.
+		 *
+		 * @return Minimum value, 0 if there are none.
+		 */
+		public double getMinimum() {
+			return count == 0 ? 0 : minimum;
+		}
+
+		/**
+		 * Getter method for maximum attribute.
+		 *
+		 * @return Maximum value, 0 if there are none.
+		 */
+		public double getMaximum() {
+			return count == 0 ? 0 : maximum;
+		}
+
+		/**
+		 * Returns a copy of these statistics.
+		 *
+		 * @return Copy.
+		 */
+		RunningStatistics copy() {
+			RunningStatistics copy = new RunningStatistics();
+			copy.count = count;
+			copy.mean = mean;
+			copy.squaredDifferences = squaredDifferences;
+			copy.minimum = minimum;
+			copy.maximum = maximum;
+			return copy;
+		}
+	}
+
+	/** Initial amount of bins of the histogram of distances. */
+	private static final int				INITIAL_BINS	= 64;
+	/** Iteration of the model when the statistics started. */
+	private final long							startIteration;
+	/** Row where each random walk was when the statistics started. */
+	private final int[]							startingRows;
+	/** Column where each random walk was when the statistics started. */
+	private final int[]							startingColumns;
+	/** Current row of each random walk. */
+	private final int[]							rows;
+	/** Current column of each random walk. */
+	private final int[]							columns;
+	/** Current end-to-end distance of each random walk. */
+	private final double[]					distances;
+	/** Amount of points of each random walk since the statistics started. */
+	private final int[]							amountOfPoints;
+	/** Mean row of the points of each random walk. */
+	private final double[]					meanRows;
+	/** Mean column of the points of each random walk. */
+	private final double[]					meanColumns;
+	/** Sum of the squared differences of the points of each random walk from their mean. */
+	private final double[]					squaredDeviations;
+	/** Sum of the squared end-to-end distances of every random walk. */
+	private long										squaredDisplacements;
+	/** Sum of the end-to-end distances of every random walk. */
+	private double									displacements;
+	/** Sum of the squared radius of gyration of every random walk. */
+	private double									squaredGyrationRadii;
+	/** Amount of random walks by their end-to-end distance, rounded down. */
+	private int[]										distanceHistogram;
+	/** Survival times of the random walks which have finished. */
+	private final RunningStatistics	survivalTimes;
+	/** End-to-end distances of the random walks when they finished. */
+	private final RunningStatistics	finalDistances;
+	/** Amount of random walks which have not finished. */
+	private int											amountOfSurvivors;
+	/** Cells visited by any random walk. */
+	private final OccupancyGrid			visitedCells;
+	/** Amount of cells visited by any random walk. */
+	private long										amountOfVisitedCells;
+	/** Amount of iterations done since the statistics started. */
+	private long										iterations;
+
+	/**
+	 * Default constructor. The statistics start from the current state of the
+	 * model, which must already have every random walk.
+	 *
+	 * @param model Model whose random walks are measured.
+	 */
+	public WalkStatistics(RandomWalksModel model) {
+		final int WALKERS = model.getAmountOfRandomWalks();
+		startIteration = model.getIterations();
+		startingRows = new int[WALKERS];
+		startingColumns = new int[WALKERS];
+		rows = new int[WALKERS];
+		columns = new int[WALKERS];
+		distances = new double[WALKERS];
+		amountOfPoints = new int[WALKERS];
+		meanRows = new double[WALKERS];
+		meanColumns = new double[WALKERS];
+		squaredDeviations = new double[WALKERS];
+		distanceHistogram = new int[INITIAL_BINS];
+		distanceHistogram[0] = WALKERS;
+		survivalTimes = new RunningStatistics();
+		finalDistances = new RunningStatistics();
+		visitedCells = OccupancyGrids.forLattice(model.getRows(), model.getColumns(), WALKERS);
+		for (int walker = 0; walker < WALKERS; ++walker) {
+			final int ROW = model.getCurrentRow(walker);
+			final int COLUMN = model.getCurrentColumn(walker);
+			startingRows[walker] = ROW;
+			startingColumns[walker] = COLUMN;
+			rows[walker] = ROW;
+			columns[walker] = COLUMN;
+			amountOfPoints[walker] = 1;
+			meanRows[walker] = ROW;
+			meanColumns[walker] = COLUMN;
+			if (!model.isFinished(walker)) {
+				amountOfSurvivors++;
+			}
+			visit(ROW, COLUMN);
+		}
+	}
+
+	/**
+	 * Updates the statistics with the moves and finished random walks of an
+	 * iteration.
+	 *
+	 * @param model Model which has done the iteration.
+	 * @param moves Moves and finished random walks of the iteration.
+	 */
+	@Override
+	public synchronized void iterationDone(RandomWalksModel model, MoveBatch moves) {
+		for (int move = 0; move < moves.size(); ++move) {
+			addPoint(moves.getWalker(move), moves.getRow(move), moves.getColumn(move));
+		}
+		for (int i = 0; i < moves.getAmountOfFinished(); ++i) {
+			final int WALKER = moves.getFinishedWalker(i);
+			survivalTimes.add(model.getIterations() - startIteration);
+			finalDistances.add(distances[WALKER]);
+			amountOfSurvivors--;
+		}
+		iterations = model.getIterations() - startIteration;
+	}
+
+	/**
+	 * Updates the statistics with a new point of a random walk.
+	 *
+	 * @param walker Index of the random walk.
+	 * @param row Row of the new point.
+	 * @param column Column of the new point.
+	 */
+	private void addPoint(int walker, int row, int column) {
+		final long ROW_OFFSET = row - startingRows[walker];
+		final long COLUMN_OFFSET = column - startingColumns[walker];
+		final long OLD_ROW_OFFSET = rows[walker] - startingRows[walker];
+		final long OLD_COLUMN_OFFSET = columns[walker] - startingColumns[walker];
+		final long SQUARED_DISTANCE = ROW_OFFSET * ROW_OFFSET + COLUMN_OFFSET * COLUMN_OFFSET;
+		squaredDisplacements += SQUARED_DISTANCE
+				- (OLD_ROW_OFFSET * OLD_ROW_OFFSET + OLD_COLUMN_OFFSET * OLD_COLUMN_OFFSET);
+		final double DISTANCE = Math.sqrt(SQUARED_DISTANCE);
+		displacements += DISTANCE - distances[walker];
+		distanceHistogram[(int) distances[walker]]--;
+		final int BIN = (int) DISTANCE;
+		if (BIN >= distanceHistogram.length) {
+			distanceHistogram = Arrays.copyOf(distanceHistogram, Math.max(BIN + 1, distanceHistogram.length * 2));
+		}
+		distanceHistogram[BIN]++;
+		distances[walker] = DISTANCE;
+		rows[walker] = row;
+		columns[walker] = column;
+		// Welford's update of the centroid, the radius of gyration is the mean
+		// squared deviation of the points from it.
+		final double OLD_GYRATION = squaredDeviations[walker] / amountOfPoints[walker];
+		final int POINTS = ++amountOfPoints[walker];
+		final double ROW_DELTA = row - meanRows[walker];
+		final double COLUMN_DELTA = column - meanColumns[walker];
+		meanRows[walker] += ROW_DELTA / POINTS;
+		meanColumns[walker] += COLUMN_DELTA / POINTS;
+		squaredDeviations[walker] += ROW_DELTA * (row - meanRows[walker])
+				+ COLUMN_DELTA * (column - meanColumns[walker]);
+		squaredGyrationRadii += squaredDeviations[walker] / POINTS - OLD_GYRATION;
+		visit(row, column);
+	}
+
+	/**
+	 * Counts a cell as visited, unless it had already been or it is out of the
+	 * space, where the random walks finish when the collisions are allowed.
+	 *
+	 * @param row Row of the cell.
+	 * @param column Column of the cell.
+	 */
+	private void visit(int row, int column) {
+		if (row >= 0 && column >= 0 && row < visitedCells.getRows() && column < visitedCells.getColumns()
+				&& visitedCells.occupy(row, column)) {
+			amountOfVisitedCells++;
+		}
+	}
+
+	/**
+	 * Returns the amount of measured random walks.
+	 *
+	 * @return Amount of random walks.
+	 */
+	public int getAmountOfRandomWalks() {
+		return rows.length;
+	}
+
+	/**
+	 * Getter method for iterations attribute.
+	 *
+	 * @return Amount of iterations done since the statistics started.
+	 */
+	public synchronized long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Returns the mean squared displacement of the random walks from their
+	 * starting points. The finished random walks count with their last point.
+	 *
+	 * @return Mean squared displacement.
+	 */
+	public synchronized double getMeanSquaredDisplacement() {
+		return rows.length == 0 ? 0 : (double) squaredDisplacements / rows.length;
+	}
+
+	/**
+	 * Returns the mean end-to-end distance of the random walks.
+	 *
+	 * @return Mean end-to-end distance.
+	 */
+	public synchronized double getMeanDistance() {
+		return rows.length == 0 ? 0 : displacements / rows.length;
+	}
+
+	/**
+	 * Returns the end-to-end distance below which a fraction of the random walks
+	 * are, rounded up to the next bin of the histogram.
+	 *
+	 * @param fraction Fraction of the random walks, between 0 and 1.
+	 * @return Distance of the fraction.
+	 */
+	public synchronized int getDistancePercentile(double fraction) {
+		if (fraction < 0 || fraction > 1) {
+			throw new IllegalArgumentException("Wrong fraction: " + fraction);
+		}
+		final long TARGET = (long) Math.ceil(fraction * rows.length);
+		long accumulated = 0;
+		for (int bin = 0; bin < distanceHistogram.length; ++bin) {
+			accumulated += distanceHistogram[bin];
+			if (accumulated >= TARGET) {
+				return bin + 1;
+			}
+		}
+		return distanceHistogram.length;
+	}
+
+	/**
+	 * Returns the histogram of the end-to-end distances.
+	 *
+	 * @return Amount of random walks whose distance rounded down is each index.
+	 */
+	public synchronized int[] getDistanceHistogram() {
+		int bins = distanceHistogram.length;
+		while (bins > 1 && distanceHistogram[bins - 1] == 0) {
+			bins--;
+		}
+		return Arrays.copyOf(distanceHistogram, bins);
+	}
+
+	/**
+	 * Returns the root mean square of the radius of gyration of the random
+	 * walks, around the centroid of the points of each one.
+	 *
+	 * @return Root mean square radius of gyration.
+	 */
+	public synchronized double getGyrationRadius() {
+		return rows.length == 0 ? 0 : Math.sqrt(Math.max(0, squaredGyrationRadii / rows.length));
+	}
+
+	/**
+	 * Returns the statistics of the survival times of the random walks which
+	 * have finished, in iterations.
+	 *
+	 * @return Copy of the statistics.
+	 */
+	public synchronized RunningStatistics getSurvivalTimes() {
+		return survivalTimes.copy();
+	}
+
+	/**
+	 * Returns the statistics of the end-to-end distances of the random walks
+	 * when they finished.
+	 *
+	 * @return Copy of the statistics.
+	 */
+	public synchronized RunningStatistics getFinalDistances() {
+		return finalDistances.copy();
+	}
+
+	/**
+	 * Getter method for amountOfSurvivors attribute.
+	 *
+	 * @return Amount of random walks which have not finished.
+	 */
+	public synchronized int getAmountOfSurvivors() {
+		return amountOfSurvivors;
+	}
+
+	/**
+	 * Getter method for amountOfVisitedCells attribute.
+	 *
+	 * @return Amount of cells visited by any random walk.
+	 */
+	public synchronized long getAmountOfVisitedCells() {
+		return amountOfVisitedCells;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		return String.format("MSD: %.2f%nEnd-to-end: %.2f (median %d)%nGyration radius: %.2f%n"
+				+ "Survivors: %d/%d%nMean survival: %.1f%nVisited cells: %d", getMeanSquaredDisplacement(),
+				getMeanDistance(), getDistancePercentile(0.5), getGyrationRadius(), amountOfSurvivors, rows.length,
+				survivalTimes.getMean(), amountOfVisitedCells);
+	}
+}
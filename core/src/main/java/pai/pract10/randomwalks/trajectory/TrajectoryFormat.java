@@ -0,0 +1,76 @@
+/**
+ * File containing the TrajectoryFormat entity definition.
+ */
+
+package pai.pract10.randomwalks.trajectory;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class which contains the constants of the binary format of the trajectory
+ * files. A file starts with a header:
+ * <ul>
+ * <li>magic number and version (ints),</li>
+ * <li>rows and columns of the space (ints), master seed (long), collisions
+ * allowed (byte) and name of the random algorithm (short length and ASCII
+ * bytes),</li>
+ * <li>amount of random walks (int) and, for each one, its starting row and
+ * column (ints).</li>
+ * </ul>
+ * It is followed by records, each one starting with its tag (byte):
+ * <ul>
+ * <li>ITERATION: the amount of random walks which finished (int) and their
+ * indexes (ints), and the 2 bits direction code of each random walk which
+ * moved, four per byte from the lowest bits. The codes follow the order of the
+ * active random walks, where each one which finishes is replaced by the last
+ * one, as the model does, so the reader rebuilds that order from the finished
+ * random walks alone.</li>
+ * <li>KEYFRAME: the amount of iterations recorded before it (long), the amount
+ * of active random walks (int) and their indexes (ints) in the order of the
+ * model, and the row and column of every random walk (ints). There is one
+ * right after the header, and the reader can start decoding at any of
+ * them.</li>
+ * <li>END: the amount of recorded iterations (long), the amount of keyframes
+ * (int) and, for each one, its iteration and its position in the file
+ * (longs).</li>
+ * </ul>
+ * The file ends with the position of the END tag (long) and the magic number
+ * again (int), so the index of keyframes can be found from the end. Every
+ * value is big-endian. It was created for the tenth practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public final class TrajectoryFormat {
+
+	/** Magic number of the trajectory files, "RWTR" in ASCII. */
+	public static final int			MAGIC						= 0x52575452;
+	/** Version of the format. */
+	public static final int			VERSION					= 2;
+	/** Tag of an iteration record. */
+	public static final byte		ITERATION				= 1;
+	/** Tag of a keyframe record. */
+	public static final byte		KEYFRAME				= 2;
+	/** Tag of the end of the records. */
+	public static final byte		END							= 0;
+	/** Amount of bytes of the trailer: position of the END tag and magic number. */
+	public static final int			TRAILER_SIZE		= Long.BYTES + Integer.BYTES;
+	/** Direction codes stored in a byte. */
+	public static final int			CODES_PER_BYTE	= 4;
+	/** Bits of a direction code. */
+	public static final int			CODE_BITS				= 2;
+	/** Mask of a direction code. */
+	public static final int			CODE_MASK				= (1 << CODE_BITS) - 1;
+	/** Charset of the name of the random algorithm. */
+	public static final Charset	NAME_CHARSET		= StandardCharsets.US_ASCII;
+
+	/**
+	 * Private constructor, this class only contains constants.
+	 */
+	private TrajectoryFormat() {
+	}
+}
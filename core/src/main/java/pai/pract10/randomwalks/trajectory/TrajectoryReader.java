@@ -0,0 +1,525 @@
+/**
+ * File containing the TrajectoryReader entity definition.
+ */
+
+package pai.pract10.randomwalks.trajectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.WalkStepper;
+
+/**
+ * Class which reads the trajectories recorded by a TrajectoryRecorder. The file
+ * is memory-mapped in windows, so files larger than the address space of a
+ * single buffer can be read too. Each iteration is returned as the MoveBatch
+ * the model produced, with the moves in the same order. The index of keyframes
+ * at the end of the file lets it seek to any iteration by loading the last
+ * keyframe before it, found with a binary search, and decoding the few
+ * iterations which follow it. It was created for the tenth practice of PAI
+ * (Programación de Aplicaciones Interactivas) course of ULL (Universidad de la
+ * Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class TrajectoryReader implements Closeable {
+
+	/** Size of the mapped windows of the file. */
+	private static final int				WINDOW_SIZE	= 64 << 20;
+	/** Channel of the file. */
+	private final FileChannel				channel;
+	/** Mapped window of the file. */
+	private MappedByteBuffer				window;
+	/** Position in the file of the first byte of the window. */
+	private long										windowStart;
+	/** Amount of rows of the recorded space. */
+	private final int								rows;
+	/** Amount of columns of the recorded space. */
+	private final int								columns;
+	/** Master seed of the recorded simulation. */
+	private final long							seed;
+	/** Establishes if the collisions were allowed. */
+	private final boolean						allowCollisions;
+	/** Name of the random numbers generator algorithm. */
+	private final String						randomAlgorithmName;
+	/** Starting row of each random walk. */
+	private final int[]							startingRows;
+	/** Starting column of each random walk. */
+	private final int[]							startingColumns;
+	/** Row of the last point of each random walk. */
+	private final int[]							currentRows;
+	/** Column of the last point of each random walk. */
+	private final int[]							currentColumns;
+	/** Establishes which random walks have finished. */
+	private final boolean[]					finished;
+	/** Random walks which have not finished, in the order of the model. */
+	private final int[]							activeWalkers;
+	/** Amount of random walks which have not finished. */
+	private int											amountOfActiveWalkers;
+	/** Builder of the returned iterations. */
+	private final MoveBatch.Builder	builder;
+	/** Establishes if the end of the file has been read. */
+	private boolean									ended;
+	/** Amount of iterations read. */
+	private long										iteration;
+	/** Amount of recorded iterations, -1 if the file has no index. */
+	private final long							amountOfIterations;
+	/** Iteration of each keyframe, null if the file has no index. */
+	private final long[]						keyframeIterations;
+	/** Position in the file of each keyframe, null if the file has no index. */
+	private final long[]						keyframePositions;
+
+	/**
+	 * Default constructor. Opens the file and reads its header, its index of
+	 * keyframes and its first keyframe. A file whose recording did not finish has
+	 * no index, so it can be read but not seeked.
+	 *
+	 * @param file File with the trajectories.
+	 * @throws IOException If the file can not be read or is not a trajectory file.
+	 */
+	public TrajectoryReader(Path file) throws IOException {
+		channel = FileChannel.open(file, StandardOpenOption.READ);
+		try {
+			map(0);
+			if (readInt() != TrajectoryFormat.MAGIC) {
+				throw new IOException("Not a trajectory file: " + file);
+			}
+			final int VERSION = readInt();
+			if (VERSION != TrajectoryFormat.VERSION) {
+				throw new IOException("Unsupported trajectory version: " + VERSION);
+			}
+			rows = readInt();
+			columns = readInt();
+			seed = readLong();
+			allowCollisions = readByte() != 0;
+			byte[] name = new byte[readShort()];
+			for (int i = 0; i < name.length; ++i) {
+				name[i] = readByte();
+			}
+			randomAlgorithmName = new String(name, TrajectoryFormat.NAME_CHARSET);
+			final int WALKERS = readInt();
+			startingRows = new int[WALKERS];
+			startingColumns = new int[WALKERS];
+			currentRows = new int[WALKERS];
+			currentColumns = new int[WALKERS];
+			finished = new boolean[WALKERS];
+			activeWalkers = new int[WALKERS];
+			for (int walker = 0; walker < WALKERS; ++walker) {
+				startingRows[walker] = readInt();
+				startingColumns[walker] = readInt();
+			}
+			final long DATA_START = windowStart + window.position();
+			final long SIZE = channel.size();
+			long endPosition = -1;
+			if (SIZE - DATA_START >= TrajectoryFormat.TRAILER_SIZE) {
+				map(SIZE - TrajectoryFormat.TRAILER_SIZE);
+				endPosition = readLong();
+				if (readInt() != TrajectoryFormat.MAGIC || endPosition < DATA_START
+						|| endPosition >= SIZE - TrajectoryFormat.TRAILER_SIZE) {
+					endPosition = -1;
+				}
+			}
+			if (endPosition >= 0) {
+				map(endPosition);
+				if (readByte() != TrajectoryFormat.END) {
+					throw new IOException("Corrupt trajectory file, wrong index position.");
+				}
+				amountOfIterations = readLong();
+				final int KEYFRAMES = readInt();
+				if (KEYFRAMES < 1) {
+					throw new IOException("Corrupt trajectory file, wrong amount of keyframes.");
+				}
+				keyframeIterations = new long[KEYFRAMES];
+				keyframePositions = new long[KEYFRAMES];
+				for (int keyframe = 0; keyframe < KEYFRAMES; ++keyframe) {
+					keyframeIterations[keyframe] = readLong();
+					keyframePositions[keyframe] = readLong();
+				}
+			} else {
+				amountOfIterations = -1;
+				keyframeIterations = null;
+				keyframePositions = null;
+			}
+			map(DATA_START);
+			if (readByte() != TrajectoryFormat.KEYFRAME) {
+				throw new IOException("Corrupt trajectory file, missing first keyframe.");
+			}
+			readKeyframe();
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		builder = new MoveBatch.Builder();
+	}
+
+	/**
+	 * Reads the next iteration.
+	 *
+	 * @return Moves and finished random walks of the iteration, or null if there
+	 *         are no more iterations.
+	 * @throws IOException If the file can not be read or is corrupt.
+	 */
+	public MoveBatch nextIteration() throws IOException {
+		if (!readIteration(builder)) {
+			return null;
+		}
+		return builder.endIteration().build();
+	}
+
+	/**
+	 * Moves to the state after an amount of iterations, so the next iteration
+	 * read is the following one. It loads the last keyframe before it, unless
+	 * the current state is closer, and decodes the iterations from there
+	 * without building their moves.
+	 *
+	 * @param target Amount of iterations.
+	 * @throws IOException If the file can not be read, is corrupt or has no index.
+	 */
+	public void seek(long target) throws IOException {
+		if (keyframeIterations == null) {
+			throw new IOException("The trajectory file has no index, its recording did not finish.");
+		}
+		if (target < 0 || target > amountOfIterations) {
+			throw new IllegalArgumentException("Wrong iteration: " + target);
+		}
+		int low = 0;
+		int high = keyframeIterations.length - 1;
+		while (low < high) {
+			final int MIDDLE = (low + high + 1) >>> 1;
+			if (keyframeIterations[MIDDLE] <= target) {
+				low = MIDDLE;
+			} else {
+				high = MIDDLE - 1;
+			}
+		}
+		if (target < iteration || iteration < keyframeIterations[low]) {
+			map(keyframePositions[low]);
+			if (readByte() != TrajectoryFormat.KEYFRAME) {
+				throw new IOException("Corrupt trajectory file, wrong keyframe position.");
+			}
+			readKeyframe();
+			ended = false;
+		}
+		while (iteration < target) {
+			if (!readIteration(null)) {
+				throw new IOException("Unexpected end of the trajectory file.");
+			}
+		}
+	}
+
+	/**
+	 * Reads the next iteration, skipping the keyframes before it.
+	 *
+	 * @param moves Builder where the moves are added, or null to only update the
+	 *          current points.
+	 * @return False if there are no more iterations.
+	 * @throws IOException If the file can not be read or is corrupt.
+	 */
+	private boolean readIteration(MoveBatch.Builder moves) throws IOException {
+		if (ended) {
+			return false;
+		}
+		byte tag = readByte();
+		while (tag == TrajectoryFormat.KEYFRAME) {
+			skipKeyframe();
+			tag = readByte();
+		}
+		if (tag == TrajectoryFormat.END) {
+			ended = true;
+			return false;
+		}
+		if (tag != TrajectoryFormat.ITERATION) {
+			throw new IOException("Corrupt trajectory file, unknown tag " + tag);
+		}
+		final int AMOUNT_OF_FINISHED = readInt();
+		for (int i = 0; i < AMOUNT_OF_FINISHED; ++i) {
+			final int WALKER = readInt();
+			if (WALKER < 0 || WALKER >= finished.length || finished[WALKER]) {
+				throw new IOException("Corrupt trajectory file, wrong finished random walk " + WALKER);
+			}
+			finished[WALKER] = true;
+			if (moves != null) {
+				moves.addFinished(WALKER);
+			}
+		}
+		int packed = 0;
+		int packedCodes = TrajectoryFormat.CODES_PER_BYTE;
+		int position = 0;
+		while (position < amountOfActiveWalkers) {
+			final int WALKER = activeWalkers[position];
+			if (finished[WALKER]) {
+				// The last active random walk takes its position, as in the model.
+				amountOfActiveWalkers--;
+				activeWalkers[position] = activeWalkers[amountOfActiveWalkers];
+				continue;
+			}
+			position++;
+			if (packedCodes == TrajectoryFormat.CODES_PER_BYTE) {
+				packed = readByte();
+				packedCodes = 0;
+			}
+			final int DIRECTION = (packed >>> (packedCodes * TrajectoryFormat.CODE_BITS)) & TrajectoryFormat.CODE_MASK;
+			packedCodes++;
+			currentRows[WALKER] += WalkStepper.rowOffset(DIRECTION);
+			currentColumns[WALKER] += WalkStepper.columnOffset(DIRECTION);
+			if (moves != null) {
+				moves.addMove(WALKER, currentRows[WALKER], currentColumns[WALKER]);
+			}
+		}
+		iteration++;
+		return true;
+	}
+
+	/**
+	 * Reads a keyframe, whose tag has already been read, and takes its state.
+	 *
+	 * @throws IOException If the file can not be read or is corrupt.
+	 */
+	private void readKeyframe() throws IOException {
+		iteration = readLong();
+		amountOfActiveWalkers = readInt();
+		final int WALKERS = finished.length;
+		if (amountOfActiveWalkers < 0 || amountOfActiveWalkers > WALKERS) {
+			throw new IOException("Corrupt trajectory file, wrong amount of active random walks.");
+		}
+		Arrays.fill(finished, true);
+		for (int position = 0; position < amountOfActiveWalkers; ++position) {
+			activeWalkers[position] = readInt();
+			if (activeWalkers[position] < 0 || activeWalkers[position] >= WALKERS
+					|| !finished[activeWalkers[position]]) {
+				throw new IOException("Corrupt trajectory file, wrong active random walk " + activeWalkers[position]);
+			}
+			finished[activeWalkers[position]] = false;
+		}
+		for (int walker = 0; walker < WALKERS; ++walker) {
+			currentRows[walker] = readInt();
+			currentColumns[walker] = readInt();
+		}
+	}
+
+	/**
+	 * Skips a keyframe, whose tag has already been read, met while reading the
+	 * iterations in order.
+	 *
+	 * @throws IOException If the file can not be read.
+	 */
+	private void skipKeyframe() throws IOException {
+		readLong();
+		final long BYTES = (long) readInt() * Integer.BYTES + (long) finished.length * Integer.BYTES * 2;
+		map(windowStart + window.position() + BYTES);
+	}
+
+	/**
+	 * Getter method for iteration attribute.
+	 *
+	 * @return Amount of iterations read.
+	 */
+	public long getIteration() {
+		return iteration;
+	}
+
+	/**
+	 * Getter method for amountOfIterations attribute.
+	 *
+	 * @return Amount of recorded iterations, -1 if the file has no index.
+	 */
+	public long getAmountOfIterations() {
+		return amountOfIterations;
+	}
+
+	/**
+	 * Returns the current row of a random walk.
+	 *
+	 * @param walker Index of the random walk.
+	 * @return Row after the iterations read.
+	 */
+	public int getCurrentRow(int walker) {
+		return currentRows[walker];
+	}
+
+	/**
+	 * Returns the current column of a random walk.
+	 *
+	 * @param walker Index of the random walk.
+	 * @return Column after the iterations read.
+	 */
+	public int getCurrentColumn(int walker) {
+		return currentColumns[walker];
+	}
+
+	/**
+	 * Establishes if a random walk had finished after the iterations read.
+	 *
+	 * @param walker Index of the random walk.
+	 * @return True if it had finished.
+	 */
+	public boolean isFinished(int walker) {
+		return finished[walker];
+	}
+
+	/**
+	 * Getter method for rows attribute.
+	 *
+	 * @return rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter method for columns attribute.
+	 *
+	 * @return columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Getter method for seed attribute.
+	 *
+	 * @return seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Getter method for allowCollisions attribute.
+	 *
+	 * @return allowCollisions
+	 */
+	public boolean isAllowCollisions() {
+		return allowCollisions;
+	}
+
+	/**
+	 * Getter method for randomAlgorithmName attribute.
+	 *
+	 * @return randomAlgorithmName
+	 */
+	public String getRandomAlgorithmName() {
+		return randomAlgorithmName;
+	}
+
+	/**
+	 * Returns the amount of recorded random walks.
+	 *
+	 * @return Amount of random walks.
+	 */
+	public int getAmountOfRandomWalks() {
+		return startingRows.length;
+	}
+
+	/**
+	 * Returns the starting row of a random walk.
+	 *
+	 * @param walker Index of the random walk.
+	 * @return Starting row.
+	 */
+	public int getStartingRow(int walker) {
+		return startingRows[walker];
+	}
+
+	/**
+	 * Returns the starting column of a random walk.
+	 *
+	 * @param walker Index of the random walk.
+	 * @return Starting column.
+	 */
+	public int getStartingColumn(int walker) {
+		return startingColumns[walker];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Maps the window which starts at a position of the file.
+	 *
+	 * @param position Position of the file.
+	 * @throws IOException If the file can not be mapped or ends before.
+	 */
+	private void map(long position) throws IOException {
+		if (position > channel.size()) {
+			throw new IOException("Unexpected end of the trajectory file.");
+		}
+		windowStart = position;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+				Math.min(WINDOW_SIZE, channel.size() - position));
+	}
+
+	/**
+	 * Maps the next window if the current one has not the given amount of bytes.
+	 *
+	 * @param bytes Amount of bytes which are going to be read.
+	 * @throws IOException If the file ends before.
+	 */
+	private void ensureRemaining(int bytes) throws IOException {
+		if (window.remaining() < bytes) {
+			map(windowStart + window.position());
+			if (window.remaining() < bytes) {
+				throw new IOException("Unexpected end of the trajectory file.");
+			}
+		}
+	}
+
+	/**
+	 * Reads a byte.
+	 *
+	 * @return Value read.
+	 * @throws IOException If the file ends before.
+	 */
+	private byte readByte() throws IOException {
+		ensureRemaining(Byte.BYTES);
+		return window.get();
+	}
+
+	/**
+	 * Reads a short.
+	 *
+	 * @return Value read.
+	 * @throws IOException If the file ends before.
+	 */
+	private short readShort() throws IOException {
+		ensureRemaining(Short.BYTES);
+		return window.getShort();
+	}
+
+	/**
+	 * Reads an int.
+	 *
+	 * @return Value read.
+	 * @throws IOException If the file ends before.
+	 */
+	private int readInt() throws IOException {
+		ensureRemaining(Integer.BYTES);
+		return window.getInt();
+	}
+
+	/**
+	 * Reads a long.
+	 *
+	 * @return Value read.
+	 * @throws IOException If the file ends before.
+	 */
+	private long readLong() throws IOException {
+		ensureRemaining(Long.BYTES);
+		return window.getLong();
+	}
+}
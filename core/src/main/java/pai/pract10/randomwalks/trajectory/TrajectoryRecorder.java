@@ -0,0 +1,291 @@
+/**
+ * File containing the TrajectoryRecorder entity definition.
+ */
+
+package pai.pract10.randomwalks.trajectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import pai.pract10.randomwalks.model.IterationListener;
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which records the trajectories of the random walks of a model in a
+ * file, with the format described in TrajectoryFormat. Each move takes 2 bits,
+ * which the model packs while it collects the moves of the iteration, so the
+ * recorder only copies them to a large direct buffer which is written through
+ * a FileChannel, and recording barely slows the simulation down. Keyframes with the
+ * whole state are written when the codes written since the last one take
+ * KEYFRAME_RATIO times the size of a keyframe, so they take a small, fixed
+ * part of the file and seeking never decodes more than that amount of codes.
+ * It must be created after every random walk has been added to the model, and
+ * closed to write the index of keyframes. It was created for the
+ * tenth practice of PAI (Programación de Aplicaciones Interactivas) course of
+ * ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class TrajectoryRecorder implements IterationListener, Closeable {
+
+	/** Size of the buffer of the records. */
+	private static final int		BUFFER_SIZE				= 8 << 20;
+	/** Times the size of a keyframe the codes take between two keyframes. */
+	public static final int			KEYFRAME_RATIO		= 16;
+	/** Channel of the file. */
+	private final FileChannel		channel;
+	/** Buffer where the records are written before being sent to the channel. */
+	private final ByteBuffer		buffer;
+	/** Amount of random walks of the model. */
+	private final int						amountOfWalkers;
+	/** Amount of random walks which have not finished. */
+	private int									amountOfActiveWalkers;
+	/** Amount of recorded iterations. */
+	private long								iterations;
+	/** Iterations between two keyframes, 0 to use KEYFRAME_RATIO. */
+	private final int						keyframeInterval;
+	/** Amount of bytes of codes written since the last keyframe. */
+	private long								codesSinceKeyframe;
+	/** Iterations recorded since the last keyframe. */
+	private int									iterationsSinceKeyframe;
+	/** Amount of bytes sent to the channel. */
+	private long								flushedBytes;
+	/** Iteration of each keyframe. */
+	private long[]							keyframeIterations;
+	/** Position in the file of each keyframe. */
+	private long[]							keyframePositions;
+	/** Amount of keyframes. */
+	private int									amountOfKeyframes;
+
+	/**
+	 * Default constructor. Creates the file and writes its header with the
+	 * current state of the model. The keyframes are spaced by KEYFRAME_RATIO.
+	 *
+	 * @param file File where the trajectories are recorded.
+	 * @param model Model to record.
+	 * @throws IOException If the file can not be written.
+	 */
+	public TrajectoryRecorder(Path file, RandomWalksModel model) throws IOException {
+		this(file, model, 0);
+	}
+
+	/**
+	 * Constructor with the iterations between two keyframes.
+	 *
+	 * @param file File where the trajectories are recorded.
+	 * @param model Model to record.
+	 * @param keyframeInterval Iterations between two keyframes, 0 to space them by KEYFRAME_RATIO.
+	 * @throws IOException If the file can not be written.
+	 */
+	public TrajectoryRecorder(Path file, RandomWalksModel model, int keyframeInterval) throws IOException {
+		if (keyframeInterval < 0) {
+			throw new IllegalArgumentException("Wrong keyframe interval: " + keyframeInterval);
+		}
+		this.keyframeInterval = keyframeInterval;
+		keyframeIterations = new long[16];
+		keyframePositions = new long[16];
+		channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		amountOfWalkers = model.getAmountOfRandomWalks();
+		amountOfActiveWalkers = model.getAmountOfActiveWalkers();
+		model.startPackingDirections();
+		byte[] algorithmName = model.getRandomAlgorithm().getName().getBytes(TrajectoryFormat.NAME_CHARSET);
+		buffer.putInt(TrajectoryFormat.MAGIC).putInt(TrajectoryFormat.VERSION);
+		buffer.putInt(model.getRows()).putInt(model.getColumns()).putLong(model.getSeed());
+		buffer.put((byte) (model.isAllowCollisions() ? 1 : 0));
+		buffer.putShort((short) algorithmName.length).put(algorithmName);
+		buffer.putInt(amountOfWalkers);
+		for (int walker = 0; walker < amountOfWalkers; ++walker) {
+			ensureRemaining(Integer.BYTES * 2);
+			buffer.putInt(model.getCurrentRow(walker)).putInt(model.getCurrentColumn(walker));
+		}
+		writeKeyframe(model);
+	}
+
+	/**
+	 * Writes the record of an iteration.
+	 *
+	 * @param model Model which has done the iteration.
+	 * @param moves Moves and finished random walks of the iteration.
+	 * @throws UncheckedIOException If the file can not be written.
+	 */
+	@Override
+	public void iterationDone(RandomWalksModel model, MoveBatch moves) {
+		try {
+			record(model, moves);
+			final boolean KEYFRAME_DUE = keyframeInterval > 0 ? iterationsSinceKeyframe >= keyframeInterval
+					: codesSinceKeyframe >= KEYFRAME_RATIO * keyframeSize(model);
+			if (KEYFRAME_DUE && !model.isTerminated()) {
+				writeKeyframe(model);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes the record of an iteration. The moves must be in the order of the
+	 * active random walks, as the model produces them, and their direction codes
+	 * are the ones the model has packed.
+	 *
+	 * @param model Model which has done the iteration.
+	 * @param moves Moves and finished random walks of the iteration.
+	 * @throws IOException If the file can not be written.
+	 */
+	private void record(RandomWalksModel model, MoveBatch moves) throws IOException {
+		final int MOVES = moves.size();
+		if (MOVES != amountOfActiveWalkers - moves.getAmountOfFinished()) {
+			throw new IllegalStateException("The moves do not belong to the recorded random walks.");
+		}
+		final byte[] PACKED_CODES = model.getPackedDirections();
+		ensureRemaining(1 + Integer.BYTES);
+		buffer.put(TrajectoryFormat.ITERATION).putInt(moves.getAmountOfFinished());
+		for (int i = 0; i < moves.getAmountOfFinished(); ++i) {
+			ensureRemaining(Integer.BYTES);
+			buffer.putInt(moves.getFinishedWalker(i));
+		}
+		final int LENGTH = packedLength(MOVES);
+		int written = 0;
+		while (written < LENGTH) {
+			if (!buffer.hasRemaining()) {
+				flush();
+			}
+			final int CHUNK = Math.min(LENGTH - written, buffer.remaining());
+			buffer.put(PACKED_CODES, written, CHUNK);
+			written += CHUNK;
+		}
+		amountOfActiveWalkers = MOVES;
+		iterations++;
+		iterationsSinceKeyframe++;
+		codesSinceKeyframe += LENGTH;
+	}
+
+	/**
+	 * Writes a keyframe with the current state of the model and adds it to the
+	 * index.
+	 *
+	 * @param model Recorded model.
+	 * @throws IOException If the file can not be written.
+	 */
+	private void writeKeyframe(RandomWalksModel model) throws IOException {
+		if (amountOfKeyframes == keyframeIterations.length) {
+			keyframeIterations = Arrays.copyOf(keyframeIterations, amountOfKeyframes * 2);
+			keyframePositions = Arrays.copyOf(keyframePositions, amountOfKeyframes * 2);
+		}
+		keyframeIterations[amountOfKeyframes] = iterations;
+		keyframePositions[amountOfKeyframes] = flushedBytes + buffer.position();
+		amountOfKeyframes++;
+		ensureRemaining(1 + Long.BYTES + Integer.BYTES);
+		buffer.put(TrajectoryFormat.KEYFRAME).putLong(iterations).putInt(amountOfActiveWalkers);
+		for (int position = 0; position < amountOfActiveWalkers; ++position) {
+			ensureRemaining(Integer.BYTES);
+			buffer.putInt(model.getActiveWalker(position));
+		}
+		for (int walker = 0; walker < amountOfWalkers; ++walker) {
+			ensureRemaining(Integer.BYTES * 2);
+			buffer.putInt(model.getCurrentRow(walker)).putInt(model.getCurrentColumn(walker));
+		}
+		iterationsSinceKeyframe = 0;
+		codesSinceKeyframe = 0;
+	}
+
+	/**
+	 * Returns the amount of bytes of a keyframe of a model.
+	 *
+	 * @param model Recorded model.
+	 * @return Amount of bytes.
+	 */
+	private long keyframeSize(RandomWalksModel model) {
+		return 1 + Long.BYTES + Integer.BYTES + (long) model.getAmountOfActiveWalkers() * Integer.BYTES
+				+ (long) amountOfWalkers * Integer.BYTES * 2;
+	}
+
+	/**
+	 * Returns the amount of bytes the direction codes of some moves take.
+	 *
+	 * @param moves Amount of moves.
+	 * @return Amount of bytes.
+	 */
+	private static int packedLength(int moves) {
+		return (moves + TrajectoryFormat.CODES_PER_BYTE - 1) / TrajectoryFormat.CODES_PER_BYTE;
+	}
+
+	/**
+	 * Getter method for iterations attribute.
+	 *
+	 * @return iterations
+	 */
+	public long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Getter method for amountOfKeyframes attribute.
+	 *
+	 * @return amountOfKeyframes
+	 */
+	public int getAmountOfKeyframes() {
+		return amountOfKeyframes;
+	}
+
+	/**
+	 * Writes the end of the records, the index of keyframes and the trailer,
+	 * and closes the file.
+	 *
+	 * @throws IOException If the file can not be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			final long END_POSITION = flushedBytes + buffer.position();
+			ensureRemaining(1 + Long.BYTES + Integer.BYTES);
+			buffer.put(TrajectoryFormat.END).putLong(iterations).putInt(amountOfKeyframes);
+			for (int keyframe = 0; keyframe < amountOfKeyframes; ++keyframe) {
+				ensureRemaining(Long.BYTES * 2);
+				buffer.putLong(keyframeIterations[keyframe]).putLong(keyframePositions[keyframe]);
+			}
+			ensureRemaining(TrajectoryFormat.TRAILER_SIZE);
+			buffer.putLong(END_POSITION).putInt(TrajectoryFormat.MAGIC);
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Sends the buffer to the channel if it has not room for the given amount
+	 * of bytes.
+	 *
+	 * @param bytes Amount of bytes which are going to be written.
+	 * @throws IOException If the file can not be written.
+	 */
+	private void ensureRemaining(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	/**
+	 * Sends the whole buffer to the channel.
+	 *
+	 * @throws IOException If the file can not be written.
+	 */
+	private void flush() throws IOException {
+		buffer.flip();
+		flushedBytes += buffer.remaining();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+}
@@ -0,0 +1,107 @@
+/**
+ * File containing the OccupancyGridTest entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Point;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Class which tests the behavior of the OccupancyGrid implementations.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class OccupancyGridTest {
+
+	/** Amount of rows of the tested grids. */
+	private static final int	ROWS		= 70;
+	/** Amount of columns of the tested grids. */
+	private static final int	COLUMNS	= 130;
+
+	/**
+	 * Checks the occupy, isOccupied, forEachOccupied and copy methods of a grid.
+	 * @param grid Empty occupancy grid of ROWS x COLUMNS positions.
+	 */
+	private void checkGrid(OccupancyGrid grid) {
+		int[][] positions = { { 0, 0 }, { 0, 63 }, { 0, 64 }, { 1, 0 },
+				{ 33, 77 }, { ROWS - 1, COLUMNS - 1 } };
+		for (int[] position : positions) {
+			assertFalse(grid.isOccupied(position[0], position[1]));
+			assertTrue(grid.occupy(position[0], position[1]));
+			assertTrue(grid.isOccupied(position[0], position[1]));
+			assertFalse(grid.occupy(position[0], position[1]));
+		}
+		assertFalse(grid.isOccupied(0, 1));
+		assertFalse(grid.isOccupied(ROWS - 1, COLUMNS - 2));
+		final HashSet<Point> visited = new HashSet<Point>();
+		grid.forEachOccupied(new CellVisitor() {
+			@Override
+			public void visit(int row, int column) {
+				visited.add(new Point(row, column));
+			}
+		});
+		assertEquals(positions.length, visited.size());
+		for (int[] position : positions) {
+			assertTrue(visited.contains(new Point(position[0], position[1])));
+		}
+		OccupancyGrid copy = grid.copy();
+		assertEquals(grid.getClass(), copy.getClass());
+		for (int[] position : positions) {
+			assertTrue(copy.isOccupied(position[0], position[1]));
+		}
+		assertTrue(copy.occupy(0, 1));
+		assertFalse(grid.isOccupied(0, 1));
+	}
+
+	/**
+	 * Test method for {@link pai.pract10.randomwalks.model.PackedOccupancyGrid}.
+	 */
+	@Test
+	public final void testPackedOccupancyGrid() {
+		checkGrid(new PackedOccupancyGrid(ROWS, COLUMNS));
+	}
+
+	/**
+	 * Test method for {@link pai.pract10.randomwalks.model.OffHeapOccupancyGrid}.
+	 * Sharing it with several threads must enable its concurrent access instead
+	 * of copying it to the heap.
+	 */
+	@Test
+	public final void testOffHeapOccupancyGrid() {
+		checkGrid(new OffHeapOccupancyGrid(ROWS, COLUMNS));
+		OffHeapOccupancyGrid grid = new OffHeapOccupancyGrid(ROWS, COLUMNS);
+		assertSame(grid, OccupancyGrids.concurrentCopy(grid));
+		assertTrue(grid.isConcurrent());
+		checkGrid(grid);
+	}
+
+	/**
+	 * Test method for {@link pai.pract10.randomwalks.model.ConcurrentOccupancyGrid}.
+	 */
+	@Test
+	public final void testConcurrentOccupancyGrid() {
+		checkGrid(new ConcurrentOccupancyGrid(ROWS, COLUMNS));
+	}
+
+	/**
+	 * Test method for {@link pai.pract10.randomwalks.model.SparseOccupancyGrid}.
+	 */
+	@Test
+	public final void testSparseOccupancyGrid() {
+		SparseOccupancyGrid grid = new SparseOccupancyGrid(ROWS, COLUMNS);
+		checkGrid(grid);
+		final int TOUCHED_TILES = 3;
+		assertEquals(TOUCHED_TILES, grid.getAllocatedTiles());
+	}
+
+}
@@ -4,6 +4,7 @@
 
 package pai.pract10.randomwalks.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Point;
@@ -20,6 +21,17 @@ import org.junit.Test;
  */
 public class RandomWalkTest {
 
+	/** Seed used by the tests. */
+	private static final long SEED = 42;
+
+	/**
+	 * Creates the random numbers stream of a random walk.
+	 * @return New random numbers stream.
+	 */
+	private RandomStream newRandomStream() {
+		return new RandomStream(RandomAlgorithms.DEFAULT, SEED, 0);
+	}
+
 	/**
 	 * Test method for
 	 * {@link pai.pract10.randomwalks.model.RandomWalk#nextPoint()}.
@@ -29,7 +41,7 @@ public class RandomWalkTest {
 		final int ROWS = 3;
 		final int COLUMNS = 3;
 		Point[] possibleNextPoints = { new Point(0, 1), new Point(1, 0), new Point(-1, 0), new Point(0, -1) };
-		RandomWalk randomWalk = new RandomWalk(0, 0, ROWS, COLUMNS, true);
+		RandomWalk randomWalk = new RandomWalk(0, 0, ROWS, COLUMNS, true, null, newRandomStream());
 		Point nextPoint = randomWalk.nextPoint();
 		boolean checker = (nextPoint.equals(possibleNextPoints[0])
 				|| nextPoint.equals(possibleNextPoints[1])
@@ -53,7 +65,7 @@ public class RandomWalkTest {
 		possibleNextPoints.add(new Point(1, 3));
 		possibleNextPoints.add(new Point(0, 2));
 		possibleNextPoints.add(new Point(0, 4));
-		RandomWalk randomWalk = new RandomWalk(currentRow, currentColumn, ROWS, COLUMNS, true);
+		RandomWalk randomWalk = new RandomWalk(currentRow, currentColumn, ROWS, COLUMNS, true, null, newRandomStream());
 		assertTrue(possibleNextPoints.equals(randomWalk.getPossibleNextPoints()));
 		final int NEW_ROW = 4;
 		final int NEW_COLUMN = 11;
@@ -66,5 +78,39 @@ public class RandomWalkTest {
 		possibleNextPoints.add(new Point(4, 12));
 		assertTrue(possibleNextPoints.equals(randomWalk.getPossibleNextPoints()));
 	}
+	
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalk#step()}.
+	 */
+	@Test
+	public final void testStepWithoutCollisions() {
+		final int ROWS = 3;
+		final int COLUMNS = 3;
+		OccupancyGrid occupancy = new PackedOccupancyGrid(ROWS, COLUMNS);
+		occupancy.occupy(0, 1);
+		RandomWalk randomWalk = new RandomWalk(0, 0, ROWS, COLUMNS, false, occupancy, newRandomStream());
+		assertTrue(randomWalk.getPossibleDirections() == 1 << WalkStepper.DOWN);
+		assertTrue(randomWalk.step());
+		assertTrue(randomWalk.getCurrentRow() == 1 && randomWalk.getCurrentColumn() == 0);
+		assertTrue(occupancy.isOccupied(1, 0));
+		assertTrue(randomWalk.getPossibleDirections() == ((1 << WalkStepper.DOWN) | (1 << WalkStepper.RIGHT)));
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalk#step()}.
+	 * Two random walks with equal random numbers streams must choose the same
+	 * points.
+	 */
+	@Test
+	public final void testReproducibleSteps() {
+		final int SIZE = 100;
+		RandomWalk first = new RandomWalk(SIZE / 2, SIZE / 2, SIZE, SIZE, true, null, newRandomStream());
+		RandomWalk second = new RandomWalk(SIZE / 2, SIZE / 2, SIZE, SIZE, true, null, newRandomStream());
+		for (int i = 0; i < 200; ++i) {
+			assertEquals(first.nextPoint(), second.nextPoint());
+		}
+	}
 
 }
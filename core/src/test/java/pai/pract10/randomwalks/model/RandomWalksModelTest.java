@@ -0,0 +1,273 @@
+/**
+ * File containing the RandomWalksModelTest entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Class which tests the behavior of the RandomWalksModel class.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class RandomWalksModelTest {
+
+	/** Seed used by the tests. */
+	private static final long SEED = 42;
+
+	/**
+	 * Creates a model with collisions allowed and the given amount of random walks.
+	 * @param walks Amount of random walks.
+	 * @param parallelism Amount of threads.
+	 * @param randomAlgorithm Algorithm of the random numbers streams.
+	 * @return New model.
+	 */
+	private RandomWalksModel newModel(int walks, int parallelism, RandomAlgorithm randomAlgorithm) {
+		final int SIZE = 1000;
+		RandomWalksModel model = new RandomWalksModel(SIZE, SIZE, true, SEED);
+		model.setParallelism(parallelism);
+		model.setRandomAlgorithm(randomAlgorithm);
+		for (int i = 0; i < walks; ++i) {
+			model.addRandomWalk(new Point(i % SIZE, (i * 7) % SIZE));
+		}
+		return model;
+	}
+
+	/**
+	 * Returns the moves and the finished random walks of an iteration as a
+	 * single array, so two iterations can be compared.
+	 * @param moves Result of the iteration.
+	 * @return Walker, row and column of each move followed by the finished random walks.
+	 */
+	private int[] toArray(MoveBatch moves) {
+		int[] values = new int[moves.size() * 3 + moves.getAmountOfFinished()];
+		for (int move = 0; move < moves.size(); ++move) {
+			values[move * 3] = moves.getWalker(move);
+			values[move * 3 + 1] = moves.getRow(move);
+			values[move * 3 + 2] = moves.getColumn(move);
+		}
+		for (int i = 0; i < moves.getAmountOfFinished(); ++i) {
+			values[moves.size() * 3 + i] = moves.getFinishedWalker(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the amount of random walks of a model which have finished.
+	 * @param model Model to check.
+	 * @return Amount of finished random walks.
+	 */
+	private int countFinished(RandomWalksModel model) {
+		int finished = 0;
+		for (int walker = 0; walker < model.getAmountOfRandomWalks(); ++walker) {
+			if (model.isFinished(walker)) {
+				finished++;
+			}
+		}
+		return finished;
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#calculateNextMoves()}.
+	 */
+	@Test
+	public final void testParallelStepsAreReproducible() {
+		final int WALKS = 20000;
+		final int ITERATIONS = 20;
+		RandomAlgorithm[] randomAlgorithms = { RandomAlgorithms.SPLITMIX,
+				RandomAlgorithms.XOSHIRO256, RandomAlgorithms.PCG };
+		for (RandomAlgorithm randomAlgorithm : randomAlgorithms) {
+			RandomWalksModel sequential = newModel(WALKS, 1, randomAlgorithm);
+			RandomWalksModel parallel = newModel(WALKS, 4, randomAlgorithm);
+			for (int i = 0; i < ITERATIONS; ++i) {
+				assertArrayEquals(toArray(sequential.calculateNextMoves()), toArray(parallel.calculateNextMoves()));
+			}
+			parallel.setParallelism(1);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#calculateNextMoves()}
+	 * without collisions.
+	 */
+	@Test
+	public final void testParallelStepsWithoutCollisions() {
+		final int SIZE = 200;
+		final int ITERATIONS = 50;
+		RandomWalksModel model = new RandomWalksModel(SIZE, SIZE, false, SEED);
+		model.setParallelism(4);
+		HashSet<Point> occupiedPoints = new HashSet<Point>();
+		for (int row = 0; row < SIZE; row += 2) {
+			for (int column = 0; column < SIZE; column += 2) {
+				Point startingPoint = new Point(row, column);
+				model.addRandomWalk(startingPoint);
+				occupiedPoints.add(startingPoint);
+			}
+		}
+		for (int i = 0; i < ITERATIONS; ++i) {
+			MoveBatch moves = model.calculateNextMoves();
+			for (int move = 0; move < moves.size(); ++move) {
+				assertTrue(occupiedPoints.add(new Point(moves.getRow(move), moves.getColumn(move))));
+			}
+			assertEquals(model.getAmountOfRandomWalks(), model.getAmountOfActiveWalkers() + countFinished(model));
+		}
+		model.setParallelism(1);
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#addRandomWalk(int, int)}
+	 * with a position out of the space.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testAddRandomWalkOutOfTheSpace() {
+		RandomWalksModel model = new RandomWalksModel(10, 20, false, SEED);
+		model.addRandomWalk(10, 0);
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#isTerminated()}.
+	 */
+	@Test
+	public final void testSimulationTerminates() {
+		final int SIZE = 10;
+		final int WALKS = 30;
+		final int MAX_ITERATIONS = 100000;
+		RandomWalksModel model = new RandomWalksModel(SIZE, SIZE, true, SEED);
+		for (int i = 0; i < WALKS; ++i) {
+			model.addRandomWalk(i % SIZE, i / SIZE);
+		}
+		int finished = 0;
+		for (int i = 0; i < MAX_ITERATIONS && !model.isTerminated(); ++i) {
+			MoveBatch moves = model.calculateNextMoves();
+			finished += moves.getAmountOfFinished();
+			assertEquals(WALKS - finished, model.getAmountOfActiveWalkers());
+			assertEquals(model.getAmountOfActiveWalkers(), moves.size());
+		}
+		assertTrue(model.isTerminated());
+		assertEquals(WALKS, countFinished(model));
+		assertEquals(0, model.calculateNextMoves().size());
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#addRandomWalks(int, SeedingDistribution, RandomStream)}.
+	 */
+	@Test
+	public final void testAddRandomWalks() {
+		final int ROWS = 40;
+		final int COLUMNS = 25;
+		final int WALKS = ROWS * COLUMNS;
+		for (SeedingDistribution distribution : SeedingDistribution.values()) {
+			RandomWalksModel model = new RandomWalksModel(ROWS, COLUMNS, true, SEED);
+			final int WALKS_TO_ADD = distribution == SeedingDistribution.UNIQUE_CELL ? WALKS : WALKS / 2;
+			assertEquals(WALKS_TO_ADD, model.addRandomWalks(WALKS_TO_ADD, distribution, model.createRandomStream(-1)));
+			HashSet<Point> startingPoints = new HashSet<Point>();
+			for (int walker = 0; walker < model.getAmountOfRandomWalks(); ++walker) {
+				Point startingPoint = new Point(model.getCurrentRow(walker), model.getCurrentColumn(walker));
+				assertTrue(startingPoint.x >= 0 && startingPoint.x < ROWS);
+				assertTrue(startingPoint.y >= 0 && startingPoint.y < COLUMNS);
+				startingPoints.add(startingPoint);
+			}
+			if (distribution == SeedingDistribution.UNIQUE_CELL) {
+				assertEquals(WALKS, startingPoints.size());
+			}
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#fromSnapshot(ModelSnapshot)}.
+	 * A model restored from a written snapshot must do the same iterations as
+	 * the original one, also when earlier snapshots have been taken, so the last
+	 * one only has the positions occupied after them.
+	 *
+	 * @throws IOException If the snapshot can not be written.
+	 */
+	@Test
+	public final void testResumeFromSnapshot() throws IOException {
+		final int ITERATIONS = 20;
+		final int SNAPSHOT_INTERVAL = 6;
+		for (boolean allowCollisions : new boolean[] { true, false }) {
+			RandomWalksModel model = new RandomWalksModel(200, 200, allowCollisions, SEED);
+			model.setRandomAlgorithm(RandomAlgorithms.XOSHIRO256);
+			model.addRandomWalks(100, SeedingDistribution.UNIFORM, model.createRandomStream(-1));
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			for (int i = 0; i < ITERATIONS; ++i) {
+				if (i % SNAPSHOT_INTERVAL == 0) {
+					model.createSnapshot().writeTo(new DataOutputStream(bytes));
+				}
+				model.calculateNextMoves();
+			}
+			bytes.reset();
+			model.createSnapshot().writeTo(new DataOutputStream(bytes));
+			RandomWalksModel resumed = RandomWalksModel.fromSnapshot(
+					ModelSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+			assertEquals(ITERATIONS, resumed.getIterations());
+			assertTrue(model.getAmountOfActiveWalkers() > 0);
+			assertEquals(model.getAmountOfActiveWalkers(), resumed.getAmountOfActiveWalkers());
+			while (!model.isTerminated()) {
+				assertArrayEquals(toArray(model.calculateNextMoves()), toArray(resumed.calculateNextMoves()));
+			}
+			assertTrue(resumed.isTerminated());
+			assertEquals(countFinished(model), countFinished(resumed));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.RandomWalksModel#startCountingVisits()}.
+	 * The counts must have every point inside the space, the same stepping the
+	 * random walks sequentially or in parallel.
+	 */
+	@Test
+	public final void testCountVisits() {
+		final int WALKS = 5000;
+		int[][] counts = new int[2][];
+		for (int parallelism = 1; parallelism <= 2; ++parallelism) {
+			RandomWalksModel model = new RandomWalksModel(200, 200, true, SEED);
+			VisitCounts visitCounts = model.startCountingVisits();
+			model.addRandomWalks(WALKS, SeedingDistribution.UNIFORM, model.createRandomStream(-1));
+			model.setParallelism(parallelism);
+			long points = WALKS;
+			for (int i = 0; i < 50; ++i) {
+				MoveBatch moves = model.calculateNextMoves();
+				for (int move = 0; move < moves.size(); ++move) {
+					if (moves.getRow(move) >= 0 && moves.getColumn(move) >= 0 && moves.getRow(move) < 200
+							&& moves.getColumn(move) < 200) {
+						points++;
+					}
+				}
+			}
+			model.setParallelism(1);
+			long total = 0;
+			int maximum = 0;
+			for (int count : visitCounts.getCounts()) {
+				total += count;
+				maximum = Math.max(maximum, count);
+			}
+			assertEquals(points, total);
+			assertEquals(maximum, visitCounts.getMaximum());
+			counts[parallelism - 1] = visitCounts.getCounts();
+		}
+		assertArrayEquals(counts[0], counts[1]);
+	}
+}
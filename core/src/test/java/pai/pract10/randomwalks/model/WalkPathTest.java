@@ -0,0 +1,96 @@
+/**
+ * File containing the WalkPathTest entity definition.
+ */
+
+package pai.pract10.randomwalks.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Class which tests the behavior of the WalkPath implementations.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class WalkPathTest {
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.CompactWalkPath#cursor()} and
+	 * {@link pai.pract10.randomwalks.model.RunLengthWalkPath#cursor()}.
+	 */
+	@Test
+	public final void testPathsDecodeTheAddedPoints() {
+		final int POINTS = 1000;
+		final int START = 50;
+		int[] rows = new int[POINTS];
+		int[] columns = new int[POINTS];
+		RandomStream random = new RandomStream(RandomAlgorithms.DEFAULT, 7, 0);
+		rows[0] = columns[0] = START;
+		for (int i = 1; i < POINTS; ++i) {
+			// Straight runs of random length, so the run length encoding is tested too.
+			final int DIRECTION = random.nextInt(WalkStepper.DIRECTIONS);
+			rows[i] = rows[i - 1] + WalkStepper.rowOffset(DIRECTION);
+			columns[i] = columns[i - 1] + WalkStepper.columnOffset(DIRECTION);
+			for (int j = random.nextInt(4); j > 0 && i + 1 < POINTS; --j) {
+				++i;
+				rows[i] = rows[i - 1] + WalkStepper.rowOffset(DIRECTION);
+				columns[i] = columns[i - 1] + WalkStepper.columnOffset(DIRECTION);
+			}
+		}
+		WalkPath[] paths = { new CompactWalkPath(START, START), new RunLengthWalkPath(START, START) };
+		for (WalkPath path : paths) {
+			for (int i = 1; i < POINTS; ++i) {
+				path.addPoint(rows[i], columns[i]);
+			}
+			assertEquals(POINTS, path.getAmountOfPoints());
+			assertEquals(rows[POINTS - 1], path.getLastRow());
+			assertEquals(columns[POINTS - 1], path.getLastColumn());
+			PathCursor cursor = path.cursor();
+			for (int i = 0; i < POINTS; ++i) {
+				assertTrue(cursor.next());
+				assertEquals(rows[i], cursor.getRow());
+				assertEquals(columns[i], cursor.getColumn());
+			}
+			assertFalse(cursor.next());
+		}
+		assertTrue(((RunLengthWalkPath) paths[1]).getAmountOfRuns() < POINTS / 2);
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.TailPath#addPoint(int, int)}.
+	 */
+	@Test
+	public final void testTailKeepsTheLastPoints() {
+		final int TAIL_LENGTH = 5;
+		final int POINTS = 12;
+		TailPath tail = new TailPath(0, 0, TAIL_LENGTH);
+		for (int i = 1; i < POINTS; ++i) {
+			tail.addPoint(0, i);
+		}
+		assertEquals(TAIL_LENGTH, tail.getAmountOfPoints());
+		assertEquals(POINTS - TAIL_LENGTH, tail.getDroppedPoints());
+		PathCursor cursor = tail.cursor();
+		for (int i = POINTS - TAIL_LENGTH; i < POINTS; ++i) {
+			assertTrue(cursor.next());
+			assertEquals(0, cursor.getRow());
+			assertEquals(i, cursor.getColumn());
+		}
+		assertFalse(cursor.next());
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.model.CompactWalkPath#addPoint(int, int)}.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public final void testNotAdjacentPoint() {
+		new CompactWalkPath(0, 0).addPoint(2, 0);
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * File containing the WalkStatisticsTest entity definition.
+ */
+
+package pai.pract10.randomwalks.statistics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import pai.pract10.randomwalks.model.RandomWalksModel;
+import pai.pract10.randomwalks.model.SeedingDistribution;
+
+/**
+ * Class which tests the behavior of the WalkStatistics class.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class WalkStatisticsTest {
+
+	/** Tolerance of the comparisons of the floating point statistics. */
+	private static final double EPSILON = 1e-6;
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.statistics.WalkStatistics#iterationDone(pai.pract10.randomwalks.model.RandomWalksModel, pai.pract10.randomwalks.model.MoveBatch)}.
+	 * The incremental statistics must match the ones calculated from the whole
+	 * paths, in both collision modes.
+	 */
+	@Test
+	public final void testMatchTheStatisticsOfTheWholePaths() {
+		for (boolean allowCollisions : new boolean[] { true, false }) {
+			final int WALKERS = 40;
+			RandomWalksModel model = new RandomWalksModel(30, 30, allowCollisions, 3, WALKERS);
+			model.addRandomWalks(WALKERS, SeedingDistribution.UNIFORM, model.createRandomStream(-1));
+			WalkStatistics statistics = new WalkStatistics(model);
+			model.addIterationListener(statistics);
+			List<List<int[]>> paths = new ArrayList<List<int[]>>();
+			for (int walker = 0; walker < model.getAmountOfRandomWalks(); ++walker) {
+				paths.add(new ArrayList<int[]>());
+			}
+			long finishedTimes = 0;
+			for (int i = 0; i <= 120; ++i) {
+				for (int walker = 0; walker < model.getAmountOfRandomWalks(); ++walker) {
+					// Every iteration moves the random walk, unless it has finished.
+					List<int[]> path = paths.get(walker);
+					int[] point = { model.getCurrentRow(walker), model.getCurrentColumn(walker) };
+					if (path.isEmpty() || path.get(path.size() - 1)[0] != point[0]
+							|| path.get(path.size() - 1)[1] != point[1]) {
+						path.add(point);
+					}
+				}
+				int finishedBefore = model.getAmountOfRandomWalks() - model.getAmountOfActiveWalkers();
+				if (i < 120) {
+					model.calculateNextMoves();
+					int finishedNow = model.getAmountOfRandomWalks() - model.getAmountOfActiveWalkers();
+					finishedTimes += (long) (finishedNow - finishedBefore) * (i + 1);
+				}
+			}
+			double squaredDisplacements = 0;
+			double displacements = 0;
+			double squaredGyrationRadii = 0;
+			Set<Long> visited = new HashSet<Long>();
+			for (List<int[]> path : paths) {
+				int[] first = path.get(0);
+				int[] last = path.get(path.size() - 1);
+				final double SQUARED_DISTANCE = Math.pow(last[0] - first[0], 2) + Math.pow(last[1] - first[1], 2);
+				squaredDisplacements += SQUARED_DISTANCE;
+				displacements += Math.sqrt(SQUARED_DISTANCE);
+				double meanRow = 0;
+				double meanColumn = 0;
+				for (int[] point : path) {
+					meanRow += point[0];
+					meanColumn += point[1];
+					if (point[0] >= 0 && point[1] >= 0 && point[0] < 30 && point[1] < 30) {
+						visited.add(point[0] * 30L + point[1]);
+					}
+				}
+				meanRow /= path.size();
+				meanColumn /= path.size();
+				double gyration = 0;
+				for (int[] point : path) {
+					gyration += Math.pow(point[0] - meanRow, 2) + Math.pow(point[1] - meanColumn, 2);
+				}
+				squaredGyrationRadii += gyration / path.size();
+			}
+			final int WALKS = model.getAmountOfRandomWalks();
+			assertEquals(squaredDisplacements / WALKS, statistics.getMeanSquaredDisplacement(), EPSILON);
+			assertEquals(displacements / WALKS, statistics.getMeanDistance(), EPSILON);
+			assertEquals(Math.sqrt(squaredGyrationRadii / WALKS), statistics.getGyrationRadius(), EPSILON);
+			assertEquals(visited.size(), statistics.getAmountOfVisitedCells());
+			assertEquals(model.getAmountOfActiveWalkers(), statistics.getAmountOfSurvivors());
+			final long FINISHED = WALKS - model.getAmountOfActiveWalkers();
+			assertEquals(FINISHED, statistics.getSurvivalTimes().getCount());
+			if (FINISHED > 0) {
+				assertEquals((double) finishedTimes / FINISHED, statistics.getSurvivalTimes().getMean(), EPSILON);
+			}
+			int histogramTotal = 0;
+			for (int count : statistics.getDistanceHistogram()) {
+				histogramTotal += count;
+			}
+			assertEquals(WALKS, histogramTotal);
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/**
+ * File containing the TrajectoryTest entity definition.
+ */
+
+package pai.pract10.randomwalks.trajectory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Test;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+import pai.pract10.randomwalks.model.SeedingDistribution;
+
+/**
+ * Class which tests the behavior of the TrajectoryRecorder and
+ * TrajectoryReader classes.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class TrajectoryTest {
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.trajectory.TrajectoryReader#nextIteration()}.
+	 * The read iterations must have the moves and finished random walks of the
+	 * recorded ones.
+	 *
+	 * @throws IOException If the temporary file can not be used.
+	 */
+	@Test
+	public final void testReadTheRecordedIterations() throws IOException {
+		final int ITERATIONS = 200;
+		final int WALKERS = 150;
+		Path file = Files.createTempFile("trajectory", ".rwt");
+		try {
+			RandomWalksModel model = new RandomWalksModel(20, 20, false, 11, WALKERS);
+			model.addRandomWalks(WALKERS, SeedingDistribution.UNIFORM, model.createRandomStream(-1));
+			MoveBatch[] recorded = new MoveBatch[ITERATIONS];
+			try (TrajectoryRecorder recorder = new TrajectoryRecorder(file, model)) {
+				model.addIterationListener(recorder);
+				for (int i = 0; i < ITERATIONS; ++i) {
+					recorded[i] = new MoveBatch.Builder().addBatch(model.calculateNextMoves()).build();
+				}
+			}
+			try (TrajectoryReader reader = new TrajectoryReader(file)) {
+				assertEquals(20, reader.getRows());
+				assertEquals(20, reader.getColumns());
+				assertEquals(11, reader.getSeed());
+				assertEquals(model.getAmountOfRandomWalks(), reader.getAmountOfRandomWalks());
+				assertEquals(model.getRandomAlgorithm().getName(), reader.getRandomAlgorithmName());
+				for (int i = 0; i < ITERATIONS; ++i) {
+					MoveBatch read = reader.nextIteration();
+					assertEquals(recorded[i].size(), read.size());
+					assertEquals(recorded[i].getAmountOfFinished(), read.getAmountOfFinished());
+					for (int move = 0; move < read.size(); ++move) {
+						assertEquals(recorded[i].getWalker(move), read.getWalker(move));
+						assertEquals(recorded[i].getRow(move), read.getRow(move));
+						assertEquals(recorded[i].getColumn(move), read.getColumn(move));
+					}
+					for (int finished = 0; finished < read.getAmountOfFinished(); ++finished) {
+						assertEquals(recorded[i].getFinishedWalker(finished), read.getFinishedWalker(finished));
+					}
+				}
+				assertNull(reader.nextIteration());
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link pai.pract10.randomwalks.trajectory.TrajectoryReader#seek(long)}.
+	 * After seeking to any iteration, in any order, the reader must have the
+	 * points of the model after that iteration and go on from it.
+	 *
+	 * @throws IOException If the temporary file can not be used.
+	 */
+	@Test
+	public final void testSeekToAnyIteration() throws IOException {
+		final int ITERATIONS = 300;
+		final int WALKERS = 100;
+		Path file = Files.createTempFile("trajectory", ".rwt");
+		try {
+			RandomWalksModel model = new RandomWalksModel(40, 40, true, 5, WALKERS);
+			model.addRandomWalks(WALKERS, SeedingDistribution.UNIFORM, model.createRandomStream(-1));
+			int[][] rows = new int[ITERATIONS + 1][WALKERS];
+			int[][] columns = new int[ITERATIONS + 1][WALKERS];
+			boolean[][] finished = new boolean[ITERATIONS + 1][WALKERS];
+			MoveBatch[] recorded = new MoveBatch[ITERATIONS];
+			try (TrajectoryRecorder recorder = new TrajectoryRecorder(file, model, 16)) {
+				model.addIterationListener(recorder);
+				for (int i = 0; i <= ITERATIONS; ++i) {
+					for (int walker = 0; walker < WALKERS; ++walker) {
+						rows[i][walker] = model.getCurrentRow(walker);
+						columns[i][walker] = model.getCurrentColumn(walker);
+						finished[i][walker] = model.isFinished(walker);
+					}
+					if (i < ITERATIONS) {
+						recorded[i] = new MoveBatch.Builder().addBatch(model.calculateNextMoves()).build();
+					}
+				}
+			}
+			try (TrajectoryReader reader = new TrajectoryReader(file)) {
+				assertEquals(ITERATIONS, reader.getAmountOfIterations());
+				Random random = new Random(3);
+				for (int seek = 0; seek < 50; ++seek) {
+					final int TARGET = seek == 0 ? ITERATIONS : random.nextInt(ITERATIONS + 1);
+					reader.seek(TARGET);
+					assertEquals(TARGET, reader.getIteration());
+					for (int walker = 0; walker < WALKERS; ++walker) {
+						assertEquals(rows[TARGET][walker], reader.getCurrentRow(walker));
+						assertEquals(columns[TARGET][walker], reader.getCurrentColumn(walker));
+						assertEquals(finished[TARGET][walker], reader.isFinished(walker));
+					}
+					MoveBatch read = reader.nextIteration();
+					if (TARGET == ITERATIONS) {
+						assertNull(read);
+					} else {
+						assertEquals(recorded[TARGET].size(), read.size());
+						for (int move = 0; move < read.size(); ++move) {
+							assertEquals(recorded[TARGET].getWalker(move), read.getWalker(move));
+							assertEquals(recorded[TARGET].getRow(move), read.getRow(move));
+						}
+					}
+				}
+			}
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
@@ -0,0 +1,561 @@
+/**
+ * File containing the RandomWalksController entity definition. 
+ */
+
+package pai.pract10.randomwalks.controller;
+
+import java.awt.Point;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.io.IOException;
+
+import javax.swing.JFileChooser;
+import javax.swing.JSlider;
+import javax.swing.Timer;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+import pai.pract10.randomwalks.model.SeedingDistribution;
+import pai.pract10.randomwalks.statistics.WalkStatistics;
+import pai.pract10.randomwalks.trajectory.TrajectoryReader;
+import pai.pract10.randomwalks.view.RandomWalksView;
+
+/**
+ * Class which represents the RandomWalks program controller. It establishes\n
+ * the communication between the model and the view. It was created for the
+ * tenth practice of PAI (Programación de Aplicaciones Interactivas) course of
+ * ULL (Universidad de la Laguna).
+ * 
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 13 abr. 2018
+ */
+public class RandomWalksController implements ActionListener, MouseListener, ChangeListener {
+	/**
+	 * Auxiliary class created to act as the timer action listener. It was created 
+	 * for the tenth practice of PAI (Programación de Aplicaciones Interactivas) 
+	 * course of ULL (Universidad de la Laguna).
+	 * 
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 15 abr. 2018
+	 */
+	class TimerListener implements ActionListener {
+		/**
+		 * Handles the events thrown by the timer.
+		 * 
+		 * @param e Event thrown by the timer.
+		 */
+    @Override
+		public void actionPerformed(ActionEvent e) {
+			final boolean TERMINATED = worker.isTerminated();
+			MoveBatch frame = worker.takeFrame();
+			showFrame(frame);
+			if (TERMINATED) {
+				timer.stop();
+				worker.stop();
+				worker = null;
+				terminatedState();
+			}
+    }
+  }
+
+	/**
+	 * Auxiliary class created to act as the replay timer action listener. It
+	 * decodes the recorded iterations on the Event Dispatch Thread, as many as
+	 * fit in the frame budget in steps per frame mode or one per tick otherwise,
+	 * and shows them as a single frame. It was created for the tenth practice of
+	 * PAI (Programación de Aplicaciones Interactivas) course of ULL (Universidad
+	 * de la Laguna).
+	 * 
+	 * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+	 * @version 1.0
+	 * @since 18 oct. 2026
+	 */
+	class ReplayListener implements ActionListener {
+		/**
+		 * Handles the events thrown by the replay timer.
+		 * 
+		 * @param e Event thrown by the replay timer.
+		 */
+		@Override
+		public void actionPerformed(ActionEvent e) {
+			MoveBatch.Builder frame = new MoveBatch.Builder();
+			boolean ended = false;
+			try {
+				final long START = System.nanoTime();
+				do {
+					MoveBatch moves = reader.nextIteration();
+					if (moves == null) {
+						ended = true;
+						break;
+					}
+					frame.addBatch(moves);
+				} while (stepsPerFrameMode && System.nanoTime() - START < REPLAY_BUDGET_NANOS);
+			} catch (IOException exception) {
+				pauseReplay();
+				view.getControlPanel().setMessage("The recording can\nnot be read:\n" + exception.getMessage(), true);
+				return;
+			}
+			replayTimer.setDelay(stepsPerFrameMode ? REFRESH_DELAY : timerDelay);
+			MoveBatch moves = frame.build();
+			if (moves.getIterations() > 0) {
+				view.getRandomWalksPanel().addMoves(moves);
+			}
+			showReplayPosition();
+			if (ended) {
+				pauseReplay();
+				view.getControlPanel().setMessage("The recording ended\nafter " + reader.getIteration() + " steps.",
+						false);
+			}
+		}
+	}
+
+	/** Milliseconds between two refreshes of the view while simulating. */
+	private static final int REFRESH_DELAY = 16;
+	/** Time the decoding of a replayed frame may take in steps per frame mode. */
+	private static final long REPLAY_BUDGET_NANOS = 8000000L;
+	/** Index of the random numbers stream used to place the random walks. */
+	private static final long SEEDING_STREAM = -1;
+	/** Model of the RandomWalks program. */
+	RandomWalksModel	model;
+	/** View of the RandomWalks program. */
+	RandomWalksView		view;
+	/** Amount of expected random walks to enter. */
+	private int				expectedRandomWalks;
+	/** Amount of remaining random walks to enter. */
+	private int				remainingRandomWalks;
+	/** GUI's width. */
+	private final int GUI_WIDTH;
+	/** GUI's height. */
+	private final int GUI_HEIGHT;
+	/** Number of iterations simulated. */
+	private int simulationSteps;
+	/** Timer which refreshes the view while simulating. */
+	private Timer timer;
+	/** Milliseconds between two iterations of the simulation. */
+	private int timerDelay;
+	/** Worker which simulates out of the Event Dispatch Thread. */
+	private SimulationWorker worker;
+	/** Establishes if the simulation is done in batches of adaptive size. */
+	private boolean stepsPerFrameMode;
+	/** Establishes if the collisions between random walks are allowed. */
+	private boolean allowCollisions;
+	/** Statistics of the simulated random walks, null until the simulation starts. */
+	private WalkStatistics statistics;
+	/** Reader of the replayed recording, null if there is none. */
+	private TrajectoryReader reader;
+	/** Timer which plays the recording. */
+	private Timer replayTimer;
+	/** Establishes if the replay slider is being moved by the replay itself. */
+	private boolean movingReplaySlider;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param width
+	 *          Width of the GUI.
+	 * @param height
+	 *          Height of the GUI.
+	 */
+	public RandomWalksController(int width, int height) {
+		GUI_HEIGHT = height;
+		GUI_WIDTH = width;
+		view = new RandomWalksView(GUI_WIDTH, GUI_HEIGHT, this, this, this);
+		remainingRandomWalks = 0;
+		simulationSteps = 0;
+		timerDelay = 100;
+		allowCollisions = true;
+	}
+	
+	/**
+	 *  Starts the simulation. The model is advanced by a worker thread, at the 
+	 *  pace of the slider, while a timer refreshes the view at a fixed rate.
+	 */
+	public void startSimulation() {
+		startStatistics();
+		view.getControlPanel().startState();
+		worker = new SimulationWorker(model, timerDelay);
+		worker.setStepsPerFrameMode(stepsPerFrameMode);
+		worker.start();
+		timer = new Timer(REFRESH_DELAY, new TimerListener());
+		timer.start();
+	}
+	
+	/**
+	 * Starts keeping the statistics of the random walks, once every one has been
+	 * placed, if they are not being kept yet.
+	 */
+	private void startStatistics() {
+		if (statistics == null) {
+			statistics = new WalkStatistics(model);
+			model.addIterationListener(statistics);
+		}
+	}
+
+	/**
+	 *  Stops the simulation. 
+	 */
+	public void stopSimulation() {
+		view.getControlPanel().stopState();
+		timer.stop();
+		worker.stop();
+		showFrame(worker.takeFrame());
+		worker = null;
+	}
+	
+	/**
+	 * Represents the state of the GUI when every random walk has finished.
+	 */
+	private void terminatedState() {
+		view.getControlPanel().finishedState();
+		view.getControlPanel().setMessage("Every random walk has\nfinished after " + simulationSteps
+				+ "\nsteps, press restart to\nrestart the simulation.", false);
+	}
+	
+	/**
+	 * Shows the moves of a frame on the view.
+	 * 
+	 * @param frame Moves to show.
+	 */
+	private void showFrame(MoveBatch frame) {
+		if (frame.getIterations() == 0) {
+			return;
+		}
+		simulationSteps += frame.getIterations();
+		view.getRandomWalksPanel().addMoves(frame);
+		view.getControlPanel().setStatistics(statistics.toString());
+		if (worker != null && stepsPerFrameMode) {
+			view.getControlPanel().setMessage("Step " + simulationSteps + "\n(" + worker.getStepsPerFrame() + " per frame)",
+					false);
+		} else {
+			view.getControlPanel().setMessage("Step " + simulationSteps, false);
+		}
+	}
+	
+	/**
+	 * Asks for a recorded trajectory file and prepares its replay, showing the
+	 * random walks at their starting points.
+	 */
+	private void openRecording() {
+		JFileChooser chooser = new JFileChooser();
+		if (chooser.showOpenDialog(view) != JFileChooser.APPROVE_OPTION) {
+			return;
+		}
+		TrajectoryReader openedReader;
+		try {
+			openedReader = new TrajectoryReader(chooser.getSelectedFile().toPath());
+		} catch (IOException e) {
+			view.getControlPanel().setMessage("The recording can\nnot be read:\n" + e.getMessage(), true);
+			return;
+		}
+		try {
+			if (openedReader.getAmountOfIterations() < 0) {
+				throw new IOException("its recording did\nnot finish.");
+			}
+			// The model rows are the columns of the panel and vice versa.
+			view.getRandomWalksPanel().setGridSize(openedReader.getRows() - 1, openedReader.getColumns() - 1);
+		} catch (IOException | IllegalArgumentException e) {
+			view.getControlPanel().setMessage("The recording can\nnot be shown, "
+					+ (e instanceof IOException ? e.getMessage() : "its\nspace is too large."), true);
+			try {
+				openedReader.close();
+			} catch (IOException closeException) {
+				// Nothing was written, so nothing is lost.
+			}
+			return;
+		}
+		reader = openedReader;
+		replayTimer = new Timer(timerDelay, new ReplayListener());
+		view.getControlPanel().replayState((int) Math.min(reader.getAmountOfIterations(), Integer.MAX_VALUE));
+		seekReplay(0);
+		view.getControlPanel().setMessage("Recording of " + reader.getAmountOfRandomWalks() + "\nrandom walks and "
+				+ reader.getAmountOfIterations() + "\nsteps, press play.", false);
+	}
+
+	/**
+	 * Moves the replay to an iteration. The walks are shown from that iteration,
+	 * or from as many iterations before it as the tail length, so seeking does
+	 * not depend on how long the recording is.
+	 * 
+	 * @param iteration Iteration to move to.
+	 */
+	private void seekReplay(long iteration) {
+		try {
+			final long FIRST_SHOWN = Math.max(0, iteration - view.getRandomWalksPanel().getTailLength());
+			reader.seek(FIRST_SHOWN);
+			final int WALKERS = reader.getAmountOfRandomWalks();
+			int[] xPoints = new int[WALKERS];
+			int[] yPoints = new int[WALKERS];
+			for (int walker = 0; walker < WALKERS; ++walker) {
+				xPoints[walker] = reader.getCurrentRow(walker);
+				yPoints[walker] = reader.getCurrentColumn(walker);
+			}
+			view.getRandomWalksPanel().clearRandomWalks();
+			view.getRandomWalksPanel().addRandomWalks(xPoints, yPoints, WALKERS);
+			MoveBatch.Builder tail = new MoveBatch.Builder();
+			while (reader.getIteration() < iteration) {
+				tail.addBatch(reader.nextIteration());
+			}
+			MoveBatch moves = tail.build();
+			if (moves.getIterations() > 0) {
+				view.getRandomWalksPanel().addMoves(moves);
+			}
+		} catch (IOException e) {
+			view.getControlPanel().setMessage("The recording can\nnot be read:\n" + e.getMessage(), true);
+			return;
+		}
+		showReplayPosition();
+		view.getControlPanel().setMessage("Step " + reader.getIteration(), false);
+	}
+
+	/**
+	 * Shows the iteration of the replay on the replay slider and the messages
+	 * area.
+	 */
+	private void showReplayPosition() {
+		final long ITERATIONS = Math.max(1, reader.getAmountOfIterations());
+		movingReplaySlider = true;
+		view.getControlPanel().setReplayPosition(
+				(int) (reader.getIteration() * view.getControlPanel().getReplayPositions() / ITERATIONS));
+		movingReplaySlider = false;
+		view.getControlPanel().setMessage("Step " + reader.getIteration(), false);
+	}
+
+	/**
+	 * Starts or pauses the replay. When the recording has ended it starts again
+	 * from the beginning.
+	 */
+	private void toggleReplay() {
+		if (replayTimer.isRunning()) {
+			pauseReplay();
+			return;
+		}
+		if (reader.getIteration() == reader.getAmountOfIterations()) {
+			seekReplay(0);
+		}
+		replayTimer.setDelay(stepsPerFrameMode ? REFRESH_DELAY : timerDelay);
+		replayTimer.start();
+		view.getControlPanel().setReplayPlaying(true);
+	}
+
+	/**
+	 * Pauses the replay.
+	 */
+	private void pauseReplay() {
+		replayTimer.stop();
+		view.getControlPanel().setReplayPlaying(false);
+	}
+
+	/**
+	 * Stops the replay and closes the recording, if there is one.
+	 */
+	private void closeRecording() {
+		if (reader == null) {
+			return;
+		}
+		replayTimer.stop();
+		try {
+			reader.close();
+		} catch (IOException e) {
+			// The recording was only read, so nothing is lost.
+		}
+		reader = null;
+		replayTimer = null;
+	}
+
+	/**
+	 * Initializes the model of the RandomWalks program.
+	 */
+	public void initializeModel() {
+		statistics = null;
+		model = new RandomWalksModel(view.getRandomWalksPanel().getColumns() + 1, view.getRandomWalksPanel().getRows() + 1, allowCollisions);
+		view.getRandomWalksPanel().setVisitCounts(model.startCountingVisits());
+	}
+
+	/**
+	 * Handles the events thrown by the GUI components.
+	 * 
+	 * @param e
+	 *          Event thrown.
+	 */
+	@Override
+	public void actionPerformed(ActionEvent e) {
+		if (e.getActionCommand().equals("Restart")) {
+			closeRecording();
+			view = new RandomWalksView(GUI_WIDTH, GUI_HEIGHT, this, this, this);
+			remainingRandomWalks = 0;
+			simulationSteps = 0;
+			timerDelay = 100;
+			stepsPerFrameMode = false;
+		} else if (e.getActionCommand().equals("Open recording")) {
+			openRecording();
+		} else if (e.getActionCommand().equals("Play recording")) {
+			toggleReplay();
+		} else if (e.getActionCommand().equals("Change colors")) {
+			view.getRandomWalksPanel().changeColors();
+		} else if (e.getActionCommand().equals("Grid visibility")) {
+			view.getRandomWalksPanel().changeGridVisibility();
+		} else if (e.getActionCommand().equals("Render mode")) {
+			view.getRandomWalksPanel().setRenderMode(view.getControlPanel().getRenderMode());
+		} else if (e.getActionCommand().equals("Tail length")) {
+			int introducedTailLength = view.getControlPanel().getTailLength();
+			if (introducedTailLength == -1) {
+				return;
+			}
+			view.getRandomWalksPanel().setTailLength(introducedTailLength);
+		} else if (e.getActionCommand().equals("Steps per frame")) {
+			stepsPerFrameMode = !stepsPerFrameMode;
+			if (worker != null) {
+				worker.setStepsPerFrameMode(stepsPerFrameMode);
+			}
+		} else if (e.getActionCommand().equals("Allow collisions")) {
+			allowCollisions = !allowCollisions;
+		} else if (e.getActionCommand().equals("Points density")) {
+			int introducedPointsDensity = view.getControlPanel().getPointsDensity();
+			if (introducedPointsDensity == -1) {
+				return;
+			}
+			view.getRandomWalksPanel().setAmountOfPoints(introducedPointsDensity);
+			initializeModel();
+		} else if (e.getActionCommand().equals("Random walks")) {
+			int introducedRandomWalks = view.getControlPanel().getRandomWalks();
+			if (introducedRandomWalks == -1) {
+				return;
+			}
+			expectedRandomWalks = introducedRandomWalks;
+			remainingRandomWalks = expectedRandomWalks;
+			view.getControlPanel().setMessage(
+					"Click on the \nRandomWalksPanel to \nestablish the initial \nposition of each \nrandom walk ("
+							+ remainingRandomWalks + " left)",
+					false);
+		} else if (e.getActionCommand().equals("Stop introducing")) {
+			if (remainingRandomWalks == expectedRandomWalks) {
+				view.getControlPanel().setMessage("You must introduce \nat least one \nrandom walk.",
+						true);
+				return;
+			}
+			remainingRandomWalks = 0;
+			view.getControlPanel().readyState();
+		} else if (e.getActionCommand().equals("Generate randomly")) {
+			final int FIRST_NEW_WALK = model.getAmountOfRandomWalks();
+			final int ADDED = model.addRandomWalks(remainingRandomWalks, SeedingDistribution.UNIFORM,
+					model.createRandomStream(SEEDING_STREAM));
+			int[] xPoints = new int[ADDED];
+			int[] yPoints = new int[ADDED];
+			for (int i = 0; i < ADDED; ++i) {
+				xPoints[i] = model.getCurrentRow(FIRST_NEW_WALK + i);
+				yPoints[i] = model.getCurrentColumn(FIRST_NEW_WALK + i);
+			}
+			view.getRandomWalksPanel().addRandomWalks(xPoints, yPoints, ADDED);
+			remainingRandomWalks = 0;
+			view.getControlPanel().readyState();
+		} else if (e.getActionCommand().equals("Stop simulation")) {
+			stopSimulation();
+		} else if (e.getActionCommand().equals("Start")) {
+			startSimulation();
+		} else if (e.getActionCommand().equals("Finish")) {
+			view.getControlPanel().finishedState();
+		} else if (e.getActionCommand().equals("Next")) {
+			startStatistics();
+			simulationSteps++;
+			view.getRandomWalksPanel().addMoves(model.calculateNextMoves());
+			view.getControlPanel().setStatistics(statistics.toString());
+			view.getControlPanel().setMessage("Step " + simulationSteps, false);
+			if (model.isTerminated()) {
+				terminatedState();
+			}
+		}
+	}
+
+	/**
+	 * Handles the mouse events produced when the users clicks on the RandomWalksPanel.
+	 * @param e Mouse events thrown by the user.
+	 */
+	@Override
+	public void mouseClicked(MouseEvent e) {
+		if (remainingRandomWalks > 0) {
+			Point initialPoint = view.getRandomWalksPanel().getNearestPoint(e.getX(), e.getY());
+			// The view only gets the random walks the model accepts, so both keep the same indexes.
+			if (!model.addRandomWalk(initialPoint.x, initialPoint.y)) {
+				view.getControlPanel().setMessage("That position is \nalready occupied.", true);
+				return;
+			}
+			view.getRandomWalksPanel().addRandomWalks(new int[] { initialPoint.x }, new int[] { initialPoint.y }, 1);
+			remainingRandomWalks--;
+			if (remainingRandomWalks > 0) {
+				view.getControlPanel().setMessage(
+						"Click on the \nRandomWalksPanel to \nestablish the initial \nposition of each \nrandom walk ("
+								+ remainingRandomWalks + " left)",
+						false);
+			} else {
+				view.getControlPanel().readyState();
+			}
+		}
+	}
+
+	/**
+	 * Handles the slider events produced when the users moves the slider on the ControlPanel.
+	 * @param e ChangeEvent of the slider.
+	 */
+	@Override
+	public void stateChanged(ChangeEvent e) {
+		JSlider source = (JSlider)e.getSource();
+		if ("Replay position".equals(source.getName())) {
+			if (reader != null && !movingReplaySlider) {
+				pauseReplay();
+				seekReplay(source.getValue() * reader.getAmountOfIterations() / Math.max(1, source.getMaximum()));
+			}
+			return;
+		}
+    if (!source.getValueIsAdjusting()) {
+        timerDelay = source.getValue();
+        if (worker != null) {
+        	worker.setStepDelay(timerDelay);
+        }
+    }
+	}
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.awt.event.MouseListener#mouseEntered(java.awt.event.MouseEvent)
+	 */
+	@Override
+	public void mouseEntered(MouseEvent e) {
+		;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.awt.event.MouseListener#mouseExited(java.awt.event.MouseEvent)
+	 */
+	@Override
+	public void mouseExited(MouseEvent e) {
+		;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.awt.event.MouseListener#mousePressed(java.awt.event.MouseEvent)
+	 */
+	@Override
+	public void mousePressed(MouseEvent e) {
+		;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.awt.event.MouseListener#mouseReleased(java.awt.event.MouseEvent)
+	 */
+	@Override
+	public void mouseReleased(MouseEvent e) {
+		;
+	}
+}
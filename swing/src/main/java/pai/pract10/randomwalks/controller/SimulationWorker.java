@@ -0,0 +1,216 @@
+/**
+ * File containing the SimulationWorker entity definition.
+ */
+
+package pai.pract10.randomwalks.controller;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which advances the RandomWalks model on its own thread, so neither the
+ * simulation blocks the Event Dispatch Thread nor the painting limits the
+ * simulation. The moves are accumulated until the view takes them as an
+ * immutable frame. It was created for the tenth practice of PAI (Programación
+ * de Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class SimulationWorker implements Runnable {
+
+	/** Amount of moves not taken by the view after which the simulation waits. */
+	private static final int		MAX_PENDING_MOVES	= 1 << 22;
+	/** Amount of moves not taken by the view after which this simulation waits. */
+	private final int						maxPendingMoves;
+	/** Model which is simulated. */
+	private final RandomWalksModel	model;
+	/** Moves not taken by the view yet. It is also the lock of the worker. */
+	private final MoveBatch.Builder	pendingMoves;
+	/** Milliseconds waited between two iterations. */
+	private volatile int				stepDelay;
+	/** Establishes if the simulation must go on. */
+	private volatile boolean		running;
+	/** Establishes if every random walk has finished, so the simulation has stopped by itself. */
+	private volatile boolean		terminated;
+	/** Time a batch of iterations should take in steps per frame mode. */
+	private static final long		FRAME_BUDGET_NANOS	= 16000000L;
+	/** Maximum amount of iterations of a batch in steps per frame mode. */
+	private static final int		MAX_STEPS_PER_FRAME	= 1 << 16;
+	/** Establishes if the iterations are done in batches as fast as possible. */
+	private volatile boolean		stepsPerFrameMode;
+	/** Amount of iterations of the next batch in steps per frame mode. */
+	private volatile int				stepsPerFrame;
+	/** Thread which simulates. */
+	private Thread							thread;
+
+	/**
+	 * Default constructor.
+	 *
+	 * @param model Model which is simulated.
+	 * @param stepDelay Milliseconds waited between two iterations.
+	 */
+	public SimulationWorker(RandomWalksModel model, int stepDelay) {
+		this(model, stepDelay, MAX_PENDING_MOVES);
+	}
+
+	/**
+	 * Constructor with the amount of moves not taken by the view after which the
+	 * simulation waits.
+	 *
+	 * @param model Model which is simulated.
+	 * @param stepDelay Milliseconds waited between two iterations.
+	 * @param maxPendingMoves Amount of moves not taken after which the
+	 *          simulation waits.
+	 */
+	SimulationWorker(RandomWalksModel model, int stepDelay, int maxPendingMoves) {
+		this.model = model;
+		this.stepDelay = stepDelay;
+		this.maxPendingMoves = maxPendingMoves;
+		stepsPerFrame = 1;
+		pendingMoves = new MoveBatch.Builder();
+	}
+
+	/**
+	 * Starts the simulation thread.
+	 */
+	public void start() {
+		running = true;
+		thread = new Thread(this, "RandomWalks simulation");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Stops the simulation thread and waits until it has finished, so the model
+	 * can be used again from the calling thread.
+	 */
+	public void stop() {
+		running = false;
+		thread.interrupt();
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Runnable#run()
+	 */
+	@Override
+	public void run() {
+		try {
+			MoveBatch.Builder batch = new MoveBatch.Builder();
+			while (running && !model.isTerminated()) {
+				if (stepsPerFrameMode) {
+					runBatch(batch);
+					publish(batch.buildTransient());
+				} else {
+					publish(model.calculateNextMoves());
+					Thread.sleep(stepDelay);
+				}
+			}
+			terminated = model.isTerminated();
+		} catch (InterruptedException e) {
+			// The simulation has been stopped.
+		}
+	}
+
+	/**
+	 * Does as many iterations in a tight loop as the last batch showed to fit in
+	 * the frame budget, and adapts that amount to the time this batch took.
+	 *
+	 * @param batch Builder where the moves are accumulated.
+	 */
+	private void runBatch(MoveBatch.Builder batch) {
+		final int STEPS = stepsPerFrame;
+		long start = System.nanoTime();
+		for (int i = 0; i < STEPS && running && !model.isTerminated(); ++i) {
+			batch.addBatch(model.calculateNextMoves());
+		}
+		long elapsed = Math.max(1, System.nanoTime() - start);
+		long nextSteps = STEPS * FRAME_BUDGET_NANOS / elapsed;
+		// The amount at most doubles or halves, so a single slow batch does not
+		// make it swing.
+		nextSteps = Math.max(STEPS / 2, Math.min(nextSteps, STEPS * 2L));
+		stepsPerFrame = (int) Math.max(1, Math.min(nextSteps, MAX_STEPS_PER_FRAME));
+	}
+
+	/**
+	 * Hands a batch of moves to the view, copying them to the pending ones, so
+	 * the batch may be transient. It waits while too many moves have not been
+	 * taken yet. The model has already done the moves, so they are handed
+	 * even when the simulation is stopped while waiting, and the view does not
+	 * fall behind the model.
+	 *
+	 * @param batch Moves to hand.
+	 * @throws InterruptedException If the simulation is stopped while waiting.
+	 */
+	private void publish(MoveBatch batch) throws InterruptedException {
+		synchronized (pendingMoves) {
+			try {
+				while (running && pendingMoves.size() > maxPendingMoves) {
+					pendingMoves.wait();
+				}
+			} finally {
+				pendingMoves.addBatch(batch);
+			}
+		}
+	}
+
+	/**
+	 * Returns the moves done since the last call as an immutable frame.
+	 *
+	 * @return Moves not taken yet.
+	 */
+	public MoveBatch takeFrame() {
+		synchronized (pendingMoves) {
+			MoveBatch frame = pendingMoves.build();
+			pendingMoves.notifyAll();
+			return frame;
+		}
+	}
+
+	/**
+	 * Returns if the simulation has stopped by itself because every random walk
+	 * has finished. The moves of the last iterations may not have been taken yet.
+	 *
+	 * @return True if the simulation has terminated.
+	 */
+	public boolean isTerminated() {
+		return terminated;
+	}
+
+	/**
+	 * Establishes if the iterations are done in batches as fast as possible,
+	 * adapting the amount of iterations of each batch to the frame budget,
+	 * instead of one by one at the pace of the step delay.
+	 *
+	 * @param stepsPerFrameMode True to do the iterations in batches.
+	 */
+	public void setStepsPerFrameMode(boolean stepsPerFrameMode) {
+		this.stepsPerFrameMode = stepsPerFrameMode;
+	}
+
+	/**
+	 * Getter method for stepsPerFrame attribute.
+	 *
+	 * @return stepsPerFrame
+	 */
+	public int getStepsPerFrame() {
+		return stepsPerFrameMode ? stepsPerFrame : 1;
+	}
+
+	/**
+	 * Setter method for stepDelay attribute.
+	 *
+	 * @param stepDelay
+	 */
+	public void setStepDelay(int stepDelay) {
+		this.stepDelay = stepDelay;
+	}
+}
@@ -10,6 +10,7 @@ import java.awt.event.ActionListener;
 
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JSlider;
@@ -44,6 +45,14 @@ public class ControlPanel extends JPanel {
 	private JButton randomButton;
 	/** Visible grid check box of the control panel. */ 
 	private JCheckBox visibleGridCheckBox;
+	/** Steps per frame check box of the control panel. */
+	private JCheckBox stepsPerFrameCheckBox;
+	/** Tail length text of the control panel. */
+	private JLabel tailLengthLabel;
+	/** Tail length text field of the control panel. */
+	private JTextField tailLengthTextField;
+	/** Render mode combo box of the control panel. */
+	private JComboBox<RenderMode> renderModeComboBox;
 	/** Points density text of the control panel. */
 	private JLabel pointsDensityLabel;
 	/** Points density text field of the control panel. */
@@ -58,12 +67,20 @@ public class ControlPanel extends JPanel {
 	private JButton changeColorsButton;
 	/** Message area of the control panel. */
 	private JTextArea messagesTextArea;
+	/** Statistics area of the control panel. */
+	private JTextArea statisticsTextArea;
 	/** Restart button of the control panel. */
 	private JButton restartButton;
 	/** Timer label of the control panel. */
 	private JLabel timerLabel;
 	/** Timer slider of the control panel. */
 	private JSlider timerSlider;
+	/** Open recording button of the control panel. */
+	private JButton openRecordingButton;
+	/** Play recording button of the control panel. */
+	private JButton playRecordingButton;
+	/** Replay position slider of the control panel. */
+	private JSlider replaySlider;
 	
 	/**
 	 * Default constructor.
@@ -104,6 +121,15 @@ public class ControlPanel extends JPanel {
 		visibleGridCheckBox.setActionCommand("Grid visibility");
 		visibleGridCheckBox.setSelected(false);
 		
+		stepsPerFrameCheckBox = new JCheckBox("Steps per frame");
+		stepsPerFrameCheckBox.addActionListener(actionListener);
+		stepsPerFrameCheckBox.setActionCommand("Steps per frame");
+		stepsPerFrameCheckBox.setSelected(false);
+		
+		renderModeComboBox = new JComboBox<RenderMode>(RenderMode.values());
+		renderModeComboBox.addActionListener(actionListener);
+		renderModeComboBox.setActionCommand("Render mode");
+		
 		timerLabel = new JLabel("Iterations timer(ms)");
 		final int MS_MIN = 1;
 		final int MS_MAX = 1001;
@@ -129,6 +155,13 @@ public class ControlPanel extends JPanel {
 		randomWalksTextField.addActionListener(actionListener);
 		randomWalksTextField.setText("50");
 		
+		tailLengthLabel = new JLabel("Tail length:");
+		final int TEXTFIELD_COLUMNS3 = 4;
+		tailLengthTextField = new JTextField(TEXTFIELD_COLUMNS3);
+		tailLengthTextField.addActionListener(actionListener);
+		tailLengthTextField.setActionCommand("Tail length");
+		tailLengthTextField.setText("0");
+		
 		enterButton = new JButton("Enter");
 		enterButton.setActionCommand("Points density");
 		enterButton.addActionListener(actionListener);
@@ -139,26 +172,48 @@ public class ControlPanel extends JPanel {
 		final int ROWS = 3;
 		final int COLUMNS = 12;
 		messagesTextArea = new JTextArea(ROWS, COLUMNS);
+		final int STATISTICS_ROWS = 6;
+		statisticsTextArea = new JTextArea(STATISTICS_ROWS, COLUMNS);
+		statisticsTextArea.setEditable(false);
 		
 		restartButton = new JButton("Restart");
 		restartButton.addActionListener(actionListener);
 		
+		openRecordingButton = new JButton("Open recording");
+		openRecordingButton.addActionListener(actionListener);
+		
+		playRecordingButton = new JButton("Play");
+		playRecordingButton.setActionCommand("Play recording");
+		playRecordingButton.addActionListener(actionListener);
+		
+		replaySlider = new JSlider(0, 0, 0);
+		replaySlider.setName("Replay position");
+		replaySlider.addChangeListener(changeListener);
+		
 		this.add(startButton);
 		this.add(finishButton);
 		this.add(nextButton);
 		this.add(stopButton);
 		this.add(randomButton);
 		this.add(visibleGridCheckBox);
+		this.add(renderModeComboBox);
 		this.add(timerLabel);
 		this.add(timerSlider);
+		this.add(stepsPerFrameCheckBox);
 		this.add(pointsDensityLabel);
 		this.add(pointsDensityTextField);
 		this.add(randomWalksLabel);
 		this.add(randomWalksTextField);
+		this.add(tailLengthLabel);
+		this.add(tailLengthTextField);
 		this.add(enterButton);
 		this.add(changeColorsButton);
 		this.add(restartButton);
+		this.add(openRecordingButton);
+		this.add(playRecordingButton);
+		this.add(replaySlider);
 		this.add(messagesTextArea);
+		this.add(statisticsTextArea);
 		
 		startButton.setEnabled(false);
 		finishButton.setEnabled(false);
@@ -166,13 +221,18 @@ public class ControlPanel extends JPanel {
 		stopButton.setEnabled(false);
 		randomButton.setEnabled(false);
 		visibleGridCheckBox.setEnabled(false);
+		renderModeComboBox.setEnabled(false);
+		tailLengthTextField.setEnabled(false);
 		timerSlider.setEnabled(false);
+		stepsPerFrameCheckBox.setEnabled(false);
 		randomWalksTextField.setEnabled(false);
 		changeColorsButton.setEnabled(false);
 		messagesTextArea.setEditable(false);
 		setMessage("Enter a point density \n(positive integer \ngreater than 4).", false);
 		messagesTextArea.setLineWrap(true);
 		restartButton.setEnabled(false);
+		playRecordingButton.setEnabled(false);
+		replaySlider.setEnabled(false);
 		
 	}
 	
@@ -187,6 +247,9 @@ public class ControlPanel extends JPanel {
 		pointsDensityTextField.setEnabled(false);
 		restartButton.setEnabled(true);
 		visibleGridCheckBox.setEnabled(true);
+		renderModeComboBox.setEnabled(true);
+		tailLengthTextField.setEnabled(true);
+		openRecordingButton.setEnabled(false);
 	}
 	
 	/**
@@ -213,6 +276,15 @@ public class ControlPanel extends JPanel {
 		messagesTextArea.setText(message);
 	}
 	
+	/**
+	 * Shows the statistics of the random walks.
+	 * 
+	 * @param statistics Statistics to show, one per line.
+	 */
+	public void setStatistics(String statistics) {
+		statisticsTextArea.setText(statistics);
+	}
+	
 	/**
 	 * Returns the introduced points density.
 	 * @return Introduced points density.
@@ -249,6 +321,31 @@ public class ControlPanel extends JPanel {
 		}
 	}
 	
+	/**
+	 * Returns the introduced tail length.
+	 * @return Introduced tail length, 0 to keep the whole walks.
+	 */
+	public int getTailLength() {
+		try {
+			int tailLength = Integer.parseInt(tailLengthTextField.getText());
+			if (tailLength < 0 || tailLength == 1) {
+				throw new NumberFormatException();
+			}
+			return tailLength;
+		} catch (NumberFormatException e) {
+			setMessage("Enter a valid tail\nlength (0 to keep the\nwhole walks or an\ninteger greater than 1).", true);
+			return -1;
+		}
+	}
+	
+	/**
+	 * Returns the selected render mode.
+	 * @return Selected render mode.
+	 */
+	public RenderMode getRenderMode() {
+		return (RenderMode) renderModeComboBox.getSelectedItem();
+	}
+	
 	/**
 	 * Prepares everything for start the simulation.
 	 */
@@ -278,6 +375,7 @@ public class ControlPanel extends JPanel {
 		nextButton.setEnabled(false);
 		stopButton.setEnabled(false);
 		changeColorsButton.setEnabled(false);
+		restartButton.setEnabled(true);
 	}
 	
 	/**
@@ -291,6 +389,7 @@ public class ControlPanel extends JPanel {
 		nextButton.setEnabled(false);
 		stopButton.setEnabled(true);
 		timerSlider.setEnabled(true);
+		stepsPerFrameCheckBox.setEnabled(true);
 		changeColorsButton.setEnabled(true);
 		restartButton.setEnabled(false);
 	}
@@ -307,5 +406,65 @@ public class ControlPanel extends JPanel {
 		changeColorsButton.setEnabled(true);
 		restartButton.setEnabled(true);
 	}
+	
+	/**
+	 * Represents the replay state of the GUI, where a recording is played
+	 * instead of a simulation.
+	 * 
+	 * @param positions Amount of positions of the replay slider.
+	 */
+	public void replayState(int positions) {
+		enterButton.setEnabled(false);
+		pointsDensityTextField.setEnabled(false);
+		randomWalksTextField.setEnabled(false);
+		openRecordingButton.setEnabled(false);
+		visibleGridCheckBox.setEnabled(true);
+		renderModeComboBox.setEnabled(true);
+		tailLengthTextField.setEnabled(true);
+		timerSlider.setEnabled(true);
+		stepsPerFrameCheckBox.setEnabled(true);
+		changeColorsButton.setEnabled(true);
+		restartButton.setEnabled(true);
+		playRecordingButton.setEnabled(true);
+		replaySlider.setMaximum(positions);
+		replaySlider.setValue(0);
+		replaySlider.setEnabled(true);
+	}
+	
+	/**
+	 * Establishes the text of the play recording button.
+	 * 
+	 * @param playing Indicates if the recording is being played.
+	 */
+	public void setReplayPlaying(boolean playing) {
+		playRecordingButton.setText(playing ? "Pause" : "Play");
+	}
+	
+	/**
+	 * Moves the replay slider to a position.
+	 * 
+	 * @param position Position of the replay slider.
+	 */
+	public void setReplayPosition(int position) {
+		replaySlider.setValue(position);
+	}
+	
+	/**
+	 * Returns the position of the replay slider.
+	 * 
+	 * @return Position of the replay slider.
+	 */
+	public int getReplayPosition() {
+		return replaySlider.getValue();
+	}
+	
+	/**
+	 * Getter method for the maximum position of the replay slider.
+	 * 
+	 * @return Last position of the replay slider.
+	 */
+	public int getReplayPositions() {
+		return replaySlider.getMaximum();
+	}
 
 }
@@ -0,0 +1,1191 @@
+/**
+ * File containing the RandomWalksPanel entity definition. 
+ */
+
+package pai.pract10.randomwalks.view;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Shape;
+import java.awt.event.MouseListener;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import javax.swing.JPanel;
+
+import pai.pract10.randomwalks.model.CompactWalkPath;
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.PathCursor;
+import pai.pract10.randomwalks.model.TailPath;
+import pai.pract10.randomwalks.model.VisitCounts;
+import pai.pract10.randomwalks.model.WalkPath;
+import pai.pract10.randomwalks.model.WalkStepper;
+
+/**
+ * Class which represents a panel to draw a random walk. It shows the points of
+ * each walk. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ * 
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 13 abr. 2018
+ */
+public class RandomWalksPanel extends JPanel {
+
+	/** Default serial version ID. */
+	private static final long		serialVersionUID	= 1L;
+	/** Establishes the approximate amount of points of the RandomWalksPanel. */
+	private int									amountOfPoints;
+	/** Establishes the amount of rows of the RandomWalksPanel. */
+	private int									rows;
+	/** Establishes the amount of columns of the RandomWalksPanel. */
+	private int									columns;
+	/** Stores the different walks to draw, with their respective points in grid units. */
+	private ArrayList<WalkPath>	walks;
+	/** Establishes the size in pixels of a walk portion in X axis. */
+	private int									xSegmentSize;
+	/** Establishes the size in pixels of a walk portion in Y axis. */
+	private int									ySegmentSize;
+	/** Available colors for walks representation. */
+	private final Color[]				AVAILABLE_COLORS	= { Color.BLUE, Color.RED,
+			Color.CYAN, Color.YELLOW, Color.ORANGE, Color.GREEN, Color.MAGENTA };
+	/** Establishes the color of the walks. */
+	private int									FIRST_WALK_INDEX_COLOR;
+	/** Attribute used to draw the walks. */
+	private int						DIAMETER;
+	/** Attribute used to draw the walks. */
+	private int						RADIUS;
+	/** Epsilon for floating point numbers comparison. */
+	private final double				EPSILON						= 0.0001;
+	/** Establishes if the grid must be drawn. */
+	private boolean visibleGrid;
+	/** Image where the grid and the walks are drawn, copied to the panel on each repaint. */
+	private BufferedImage backBuffer;
+	/** Establishes if the back buffer must be drawn again from scratch. */
+	private boolean backBufferInvalid;
+	/** Stroke used to draw the walks. */
+	private BasicStroke walkStroke;
+	/** Establishes how the walks are drawn. */
+	private RenderMode renderMode;
+	/** Image with a pixel per point of the space, used by the raster render modes. */
+	private BufferedImage rasterImage;
+	/** Pixels of the raster image, written directly. */
+	private int[] rasterPixels;
+	/** Index plus one of the last walk which visited each point, zero if none did. */
+	private int[] lastVisitors;
+	/** Times each point has been visited. */
+	private int[] visitCounts;
+	/** Darkening of a point in the density render mode on each visit. */
+	private static final int DENSITY_STEP = 24;
+	/** Amount of colors of the heat scale. */
+	private static final int HEAT_COLORS = 256;
+	/** Colors of the heat scale, from the least to the most visited points. */
+	private static final int[] HEAT_SCALE = createHeatScale();
+	/** Amount of fractional bits of the logarithm of the counts. */
+	private static final int LOG_FRACTION_BITS = 3;
+	/** Counts of the visits of the model, null to use the ones of the panel. */
+	private VisitCounts modelVisitCounts;
+	/** Color of each logarithm of the counts in the heatmap render mode. */
+	private final int[] heatmapColors = new int[HEAT_COLORS];
+	/** Logarithm of the greatest count which the heatmap colors were calculated for. */
+	private int heatmapTopLevel = -1;
+	/** Transparent image with the grid lines, drawn again only when the amount of points changes. */
+	private BufferedImage gridImage;
+	/** Maximum amount of points kept of each walk, 0 to keep them all. */
+	private int tailLength;
+	/** Amount of different shades used to fade the tails. */
+	private static final int FADE_LEVELS = 8;
+	/** Each available color blended with the background at each fade level, from the faintest one. */
+	private final Color[][] fadePalette = createFadePalette(AVAILABLE_COLORS);
+	/** Ages of the tail segments whose fade level differs from the one of the next newer segment. */
+	private int[] fadeBoundaryAges = new int[0];
+	/** Row of the first point of the segment of each walk at each fade boundary age. */
+	private int[] fadeBoundaryRows = new int[0];
+	/** Column of the first point of the segment of each walk at each fade boundary age. */
+	private int[] fadeBoundaryColumns = new int[0];
+	/** Amount of tail segment ends and starting points drawn on each point of the grid, in the order of the raster image. */
+	private int[] tailPointUses;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param width
+	 *          Width of the shape panel.
+	 * @param height
+	 *          Height of the shape panel.
+	 * @param panelName
+	 *          Name of the panel.
+	 * @param mouseListener
+	 *          Mouse listener object for control RandomWalksPanel clicks.
+	 */
+	public RandomWalksPanel(int width, int height, String panelName,
+			MouseListener mouseListener) {
+		visibleGrid = false;
+		setName(panelName);
+		setPreferredSize(new Dimension(width, height));
+		addMouseListener(mouseListener);
+		walks = new ArrayList<WalkPath>();
+		walkStroke = new BasicStroke(RADIUS);
+		renderMode = RenderMode.LINES;
+		changeColors();
+	}
+
+	/**
+	 * Adds a new Random Walk to the RandomWalksPanel.
+	 * 
+	 * @param xStartPosition
+	 *          X coordinate of the starting position of the new Random Walk.
+	 * @param yStartPosition
+	 *          Y coordinate of the starting position of the new Random Walk.
+	 */
+	public void addRandomWalk(int xStartPosition, int yStartPosition) {
+		if (xStartPosition > -1 && xStartPosition <= getColumns() * xSegmentSize
+				&& yStartPosition > -1 && yStartPosition <= getRows() * ySegmentSize) {
+			addWalk(null, xStartPosition / xSegmentSize, yStartPosition / ySegmentSize);
+		} else {
+			throw new IllegalArgumentException(
+					"Invalid starting position for a new RandomWalk : (" + xStartPosition
+							+ ", " + yStartPosition + ")");
+		}
+		repaint();
+	}
+
+	/**
+	 * Adds many new Random Walks to the RandomWalksPanel at once, repainting it
+	 * only at the end.
+	 * 
+	 * @param xPoints
+	 *          X coordinates of the starting positions, in grid units.
+	 * @param yPoints
+	 *          Y coordinates of the starting positions, in grid units.
+	 * @param amount
+	 *          Amount of Random Walks to add.
+	 */
+	public void addRandomWalks(int[] xPoints, int[] yPoints, int amount) {
+		Graphics2D g2 = null;
+		if (renderMode == RenderMode.LINES && !backBufferInvalid && backBuffer != null) {
+			g2 = backBuffer.createGraphics();
+		}
+		for (int i = 0; i < amount; ++i) {
+			addWalk(g2, xPoints[i], yPoints[i]);
+		}
+		if (g2 != null) {
+			g2.dispose();
+		}
+		repaint();
+	}
+
+	/**
+	 * Adds a new walk and draws its starting point, without repainting.
+	 * 
+	 * @param g2
+	 *          Graphic object of the back buffer, null to create one if needed.
+	 * @param x
+	 *          X coordinate of the starting position, in grid units.
+	 * @param y
+	 *          Y coordinate of the starting position, in grid units.
+	 */
+	private void addWalk(Graphics2D g2, int x, int y) {
+		WalkPath newWalk = createWalkPath(x, y);
+		walks.add(newWalk);
+		visitPoint(walks.size() - 1, x, y);
+		if (renderMode == RenderMode.LINES && !backBufferInvalid && backBuffer != null) {
+			Graphics2D walkGraphics = g2 != null ? g2 : backBuffer.createGraphics();
+			walkGraphics.setColor(getWalkColor(walks.size() - 1));
+			drawWalk(walkGraphics, newWalk);
+			if (tailLength > 0) {
+				useTailPoint(x, y, 1);
+			}
+			if (g2 == null) {
+				walkGraphics.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Adds the points reached by the moves of a batch to their walks, in order.
+	 * Only the new portions are drawn in the back buffer, and only the new points
+	 * are written in the raster image. When the walks keep only a tail, each
+	 * move erases the segment which drops off it and draws again the few
+	 * segments which change their fade level, so a frame does not depend on the
+	 * length of the tails. If a segment which is erased or drawn again shares a
+	 * point with another one, which only happens when the collisions are
+	 * allowed, the back buffer is drawn again from scratch instead.
+	 * 
+	 * @param moves
+	 *          Moves to add.
+	 */
+	public void addMoves(MoveBatch moves) {
+		Graphics2D g2 = null;
+		if (renderMode == RenderMode.LINES && !backBufferInvalid && backBuffer != null) {
+			g2 = backBuffer.createGraphics();
+			g2.setStroke(walkStroke);
+			if (tailLength > 0) {
+				ensureFadeBoundaries();
+			}
+		} else {
+			backBufferInvalid = true;
+		}
+		for (int i = 0; i < moves.size(); ++i) {
+			final int WALK = moves.getWalker(i);
+			WalkPath currentWalk = walks.get(WALK);
+			final int X_ORIGIN = currentWalk.getLastRow() * xSegmentSize;
+			final int Y_ORIGIN = currentWalk.getLastColumn() * ySegmentSize;
+			if (g2 != null && tailLength > 0 && currentWalk.getAmountOfPoints() >= 2) {
+				if (!moveTail(g2, WALK, (TailPath) currentWalk, moves.getRow(i), moves.getColumn(i))) {
+					backBufferInvalid = true;
+					g2.dispose();
+					g2 = null;
+				}
+				visitPoint(WALK, moves.getRow(i), moves.getColumn(i));
+				continue;
+			}
+			currentWalk.addPoint(moves.getRow(i), moves.getColumn(i));
+			visitPoint(WALK, moves.getRow(i), moves.getColumn(i));
+			if (g2 == null) {
+				continue;
+			}
+			if (currentWalk.getAmountOfPoints() == 2) {
+				// The starting point of the walk is not drawn any more.
+				backBufferInvalid = true;
+				g2.dispose();
+				g2 = null;
+				continue;
+			}
+			g2.setColor(getWalkColor(WALK));
+			g2.drawLine(X_ORIGIN, Y_ORIGIN, moves.getRow(i) * xSegmentSize, moves.getColumn(i) * ySegmentSize);
+		}
+		if (g2 != null) {
+			g2.dispose();
+		}
+		repaint();
+	}
+
+	/**
+	 * Adds a point to the tail of a walk and updates it in the back buffer: the
+	 * oldest segment is erased when it drops off, the segments which reach a
+	 * fade boundary are drawn again with their new level and the new segment is
+	 * drawn with the brightest one. Every segment moves a step towards the
+	 * oldest end, so the first point of the segment at each boundary follows the
+	 * direction of the step it was on. The strokes overlap at the joints, so the
+	 * segment after each redrawn one is drawn again too, from the oldest to the
+	 * newest as a full redraw does. The strokes of two segments only overlap
+	 * around a shared point, so the back buffer is only updated in place if no
+	 * other segment uses the points which are erased or drawn again; otherwise
+	 * nothing is drawn and it must be drawn again from scratch.
+	 * 
+	 * @param g2
+	 *          Graphic object of the back buffer.
+	 * @param walk
+	 *          Index of the walk.
+	 * @param tail
+	 *          Tail of the walk, with at least two points.
+	 * @param row
+	 *          Row of the new point, in grid units.
+	 * @param column
+	 *          Column of the new point, in grid units.
+	 * @return False if the back buffer must be drawn again from scratch.
+	 */
+	private boolean moveTail(Graphics2D g2, int walk, TailPath tail, int row, int column) {
+		final int BOUNDARIES = fadeBoundaryAges.length;
+		final int FIRST_BOUNDARY = walk * BOUNDARIES;
+		final int SEGMENTS = tail.getAmountOfPoints() - 1;
+		final int LAST_ROW = tail.getLastRow();
+		final int LAST_COLUMN = tail.getLastColumn();
+		final boolean FULL = SEGMENTS == tailLength - 1;
+		final int ERASED_ROW = tail.getFirstRow();
+		final int ERASED_COLUMN = tail.getFirstColumn();
+		final int ERASED_DIRECTION = tail.getDirection(0);
+		if (FULL) {
+			useTailPoint(ERASED_ROW, ERASED_COLUMN, -1);
+			useTailPoint(ERASED_ROW + WalkStepper.rowOffset(ERASED_DIRECTION),
+					ERASED_COLUMN + WalkStepper.columnOffset(ERASED_DIRECTION), -1);
+		}
+		useTailPoint(LAST_ROW, LAST_COLUMN, 1);
+		useTailPoint(row, column, 1);
+		for (int boundary = 0; boundary < BOUNDARIES; ++boundary) {
+			final int SEGMENT = SEGMENTS - 1 - fadeBoundaryAges[boundary];
+			if (SEGMENT >= 0) {
+				final int DIRECTION = tail.getDirection(SEGMENT);
+				fadeBoundaryRows[FIRST_BOUNDARY + boundary] += WalkStepper.rowOffset(DIRECTION);
+				fadeBoundaryColumns[FIRST_BOUNDARY + boundary] += WalkStepper.columnOffset(DIRECTION);
+			}
+		}
+		tail.addPoint(row, column);
+		final int NEW_SEGMENTS = tail.getAmountOfPoints() - 1;
+		for (int boundary = 0; boundary < BOUNDARIES; ++boundary) {
+			if (NEW_SEGMENTS - 1 - fadeBoundaryAges[boundary] == 0 && NEW_SEGMENTS > SEGMENTS) {
+				// The tail has just grown as old as the boundary.
+				fadeBoundaryRows[FIRST_BOUNDARY + boundary] = tail.getFirstRow();
+				fadeBoundaryColumns[FIRST_BOUNDARY + boundary] = tail.getFirstColumn();
+			}
+		}
+		if (FULL && (useTailPoint(ERASED_ROW, ERASED_COLUMN, 0) > 0 || isSharedSegment(tail, 0, 0,
+				tail.getFirstRow(), tail.getFirstColumn()))) {
+			return false;
+		}
+		for (int boundary = 0; boundary < BOUNDARIES; ++boundary) {
+			final int SEGMENT = NEW_SEGMENTS - 1 - fadeBoundaryAges[boundary];
+			if (SEGMENT >= 0 && isSharedSegment(tail, SEGMENT, SEGMENT + 1, fadeBoundaryRows[FIRST_BOUNDARY + boundary],
+					fadeBoundaryColumns[FIRST_BOUNDARY + boundary])) {
+				return false;
+			}
+		}
+		final Color[] PALETTE = fadePalette[getWalkColorIndex(walk)];
+		if (FULL) {
+			eraseSegment(g2, ERASED_ROW, ERASED_COLUMN, ERASED_DIRECTION);
+			g2.setColor(PALETTE[fadeLevel(NEW_SEGMENTS - 1)]);
+			drawSegment(g2, tail.getFirstRow(), tail.getFirstColumn(), tail.getDirection(0));
+		}
+		for (int boundary = BOUNDARIES - 1; boundary >= 0; --boundary) {
+			final int AGE = fadeBoundaryAges[boundary];
+			final int SEGMENT = NEW_SEGMENTS - 1 - AGE;
+			if (SEGMENT < 0) {
+				continue;
+			}
+			final int BOUNDARY_ROW = fadeBoundaryRows[FIRST_BOUNDARY + boundary];
+			final int BOUNDARY_COLUMN = fadeBoundaryColumns[FIRST_BOUNDARY + boundary];
+			final int DIRECTION = tail.getDirection(SEGMENT);
+			g2.setColor(PALETTE[fadeLevel(AGE)]);
+			drawSegment(g2, BOUNDARY_ROW, BOUNDARY_COLUMN, DIRECTION);
+			g2.setColor(PALETTE[fadeLevel(AGE - 1)]);
+			drawSegment(g2, BOUNDARY_ROW + WalkStepper.rowOffset(DIRECTION),
+					BOUNDARY_COLUMN + WalkStepper.columnOffset(DIRECTION), tail.getDirection(SEGMENT + 1));
+		}
+		g2.setColor(PALETTE[fadeLevel(0)]);
+		drawSegment(g2, LAST_ROW, LAST_COLUMN, tail.getDirection(NEW_SEGMENTS - 1));
+		return true;
+	}
+
+	/**
+	 * Checks if the points of some consecutive segments of a tail are used by
+	 * any segment but their neighbours in the tail, so drawing them again would
+	 * cover it.
+	 * 
+	 * @param tail
+	 *          Tail of the walk.
+	 * @param firstSegment
+	 *          Index of the first segment, 0 for the oldest one.
+	 * @param lastSegment
+	 *          Index of the last segment.
+	 * @param row
+	 *          Row of the first point of the first segment, in grid units.
+	 * @param column
+	 *          Column of the first point of the first segment, in grid units.
+	 * @return True if any of the points is shared.
+	 */
+	private boolean isSharedSegment(TailPath tail, int firstSegment, int lastSegment, int row, int column) {
+		final int LAST_POINT = tail.getAmountOfPoints() - 1;
+		for (int point = firstSegment; point <= lastSegment + 1; ++point) {
+			final int EXPECTED_USES = (point > 0 ? 1 : 0) + (point < LAST_POINT ? 1 : 0);
+			if (useTailPoint(row, column, 0) > EXPECTED_USES) {
+				return true;
+			}
+			if (point <= lastSegment) {
+				final int DIRECTION = tail.getDirection(point);
+				row += WalkStepper.rowOffset(DIRECTION);
+				column += WalkStepper.columnOffset(DIRECTION);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Changes the amount of tail segment ends and starting points drawn on a
+	 * point of the grid. The points out of the grid are not counted.
+	 * 
+	 * @param x
+	 *          X coordinate of the point, in grid units.
+	 * @param y
+	 *          Y coordinate of the point, in grid units.
+	 * @param uses
+	 *          Amount of uses to add, negative to remove them.
+	 * @return New amount of uses of the point, 0 if it is out of the grid.
+	 */
+	private int useTailPoint(int x, int y, int uses) {
+		if (rasterImage == null || x < 0 || y < 0 || x >= rasterImage.getWidth() || y >= rasterImage.getHeight()) {
+			return 0;
+		}
+		final int INDEX = y * rasterImage.getWidth() + x;
+		tailPointUses[INDEX] += uses;
+		return tailPointUses[INDEX];
+	}
+
+	/**
+	 * Draws a segment of a walk with the current color of the graphics object.
+	 * 
+	 * @param g2
+	 *          Graphic object where the segment is drawn.
+	 * @param row
+	 *          Row of the first point of the segment, in grid units.
+	 * @param column
+	 *          Column of the first point of the segment, in grid units.
+	 * @param direction
+	 *          Direction code of the segment.
+	 */
+	private void drawSegment(Graphics2D g2, int row, int column, int direction) {
+		g2.drawLine(row * xSegmentSize, column * ySegmentSize, (row + WalkStepper.rowOffset(direction)) * xSegmentSize,
+				(column + WalkStepper.columnOffset(direction)) * ySegmentSize);
+	}
+
+	/**
+	 * Erases a segment of a walk from the back buffer, drawing the grid lines
+	 * under it again if they are visible. It must not share a point with any
+	 * segment which is not drawn again after it.
+	 * 
+	 * @param g2
+	 *          Graphic object of the back buffer.
+	 * @param row
+	 *          Row of the first point of the segment, in grid units.
+	 * @param column
+	 *          Column of the first point of the segment, in grid units.
+	 * @param direction
+	 *          Direction code of the segment.
+	 */
+	private void eraseSegment(Graphics2D g2, int row, int column, int direction) {
+		g2.setColor(Color.WHITE);
+		drawSegment(g2, row, column, direction);
+		if (isVisibleGrid()) {
+			final int MARGIN = (int) Math.ceil(walkStroke.getLineWidth() / 2);
+			final int X = Math.min(row, row + WalkStepper.rowOffset(direction)) * xSegmentSize - MARGIN;
+			final int Y = Math.min(column, column + WalkStepper.columnOffset(direction)) * ySegmentSize - MARGIN;
+			final Shape CLIP = g2.getClip();
+			g2.clipRect(X, Y, xSegmentSize + 2 * MARGIN, ySegmentSize + 2 * MARGIN);
+			paintGrid(g2);
+			g2.setClip(CLIP);
+		}
+	}
+
+	/**
+	 * Makes room for the fade boundaries of every walk.
+	 */
+	private void ensureFadeBoundaries() {
+		final int LENGTH = walks.size() * fadeBoundaryAges.length;
+		if (fadeBoundaryRows.length < LENGTH) {
+			fadeBoundaryRows = Arrays.copyOf(fadeBoundaryRows, Math.max(LENGTH, fadeBoundaryRows.length * 2));
+			fadeBoundaryColumns = Arrays.copyOf(fadeBoundaryColumns, fadeBoundaryRows.length);
+		}
+	}
+
+	/**
+	 * Returns the fade level of a tail segment, which only depends on its age so
+	 * the segments keep it while the tail grows.
+	 * 
+	 * @param age
+	 *          Amount of segments added after it, 0 for the newest one.
+	 * @return Fade level, FADE_LEVELS - 1 for the brightest one.
+	 */
+	private int fadeLevel(int age) {
+		final int CAPACITY = tailLength - 1;
+		return Math.max(0, (CAPACITY - 1 - age) * FADE_LEVELS / CAPACITY);
+	}
+
+	/**
+	 * Creates the colors of the faded tails, blending each color with the white
+	 * background instead of using transparency, so a segment can be drawn
+	 * again over itself with another level.
+	 * 
+	 * @param colors
+	 *          Colors of the walks.
+	 * @return Color of each walk color at each fade level.
+	 */
+	private static Color[][] createFadePalette(Color[] colors) {
+		Color[][] palette = new Color[colors.length][FADE_LEVELS];
+		for (int color = 0; color < colors.length; ++color) {
+			for (int level = 0; level < FADE_LEVELS; ++level) {
+				palette[color][level] = new Color(fade(colors[color].getRed(), level),
+						fade(colors[color].getGreen(), level), fade(colors[color].getBlue(), level));
+			}
+		}
+		return palette;
+	}
+
+	/**
+	 * Blends a color component with white.
+	 * 
+	 * @param component
+	 *          Color component, from 0 to 255.
+	 * @param level
+	 *          Fade level, FADE_LEVELS - 1 to keep the component.
+	 * @return Blended component.
+	 */
+	private static int fade(int component, int level) {
+		return 255 - (255 - component) * (level + 1) / FADE_LEVELS;
+	}
+
+	/**
+	 * Checks if two given points can conform a walk portion.
+	 * 
+	 * @param prevPoint
+	 *          First point.
+	 * @param nextPoint
+	 *          Second point.
+	 * @return Result.
+	 */
+	public boolean isValidNextPoint(Point prevPoint, Point nextPoint) {
+		System.out.println(prevPoint);
+		System.out.println(nextPoint);
+		boolean result = false;
+		if (nextPoint.getX() < 0 || nextPoint.getY() < 0) {
+			return result;
+		}
+		if (Math.abs(prevPoint.getX() - nextPoint.getX()) < EPSILON
+				&& Math
+						.abs(prevPoint.getY() + ySegmentSize - nextPoint.getY()) < EPSILON
+				&& (nextPoint.getY() < getPreferredSize().getHeight() || Math.abs(
+						nextPoint.getY() - getPreferredSize().getHeight()) < EPSILON)) {
+			result = true;
+		} else if (Math.abs(prevPoint.getX() - nextPoint.getX()) < EPSILON
+				&& Math
+						.abs(prevPoint.getY() - ySegmentSize - nextPoint.getY()) < EPSILON
+				&& (nextPoint.getY() < getPreferredSize().getHeight() || Math.abs(
+						nextPoint.getY() - getPreferredSize().getHeight()) < EPSILON)) {
+			result = true;
+		} else if (Math.abs(prevPoint.getY() - nextPoint.getY()) < EPSILON
+				&& Math
+						.abs(prevPoint.getX() + xSegmentSize - nextPoint.getX()) < EPSILON
+				&& (nextPoint.getX() < getPreferredSize().getWidth() || Math
+						.abs(nextPoint.getX() - getPreferredSize().getWidth()) < EPSILON)) {
+			result = true;
+		} else if (Math.abs(prevPoint.getY() - nextPoint.getY()) < EPSILON
+				&& Math
+						.abs(prevPoint.getX() - xSegmentSize - nextPoint.getX()) < EPSILON
+				&& (nextPoint.getX() < getPreferredSize().getWidth() || Math
+						.abs(nextPoint.getX() - getPreferredSize().getWidth()) < EPSILON)) {
+			result = true;
+		}
+		return result;
+	}
+
+	/**
+	 * Paints the panel in the graphics object given as a parameter. The walks
+	 * are drawn in the back buffer, which is only drawn again from scratch when
+	 * the colors, the grid visibility or the size change.
+	 * 
+	 * @param g
+	 *          Graphic object where the walks will be painted.
+	 */
+	@Override
+	public void paintComponent(Graphics g) {
+		super.paintComponent(g);
+		setBackground(Color.WHITE);
+		if (amountOfPoints < 4) {
+			return;
+		}
+		if (renderMode == RenderMode.HEATMAP) {
+			paintHeatmap();
+		}
+		if (renderMode != RenderMode.LINES) {
+			g.drawImage(rasterImage, -xSegmentSize / 2, -ySegmentSize / 2,
+					rasterImage.getWidth() * xSegmentSize, rasterImage.getHeight() * ySegmentSize, null);
+			if (isVisibleGrid()) {
+				paintGrid(g);
+			}
+			return;
+		}
+		if (backBuffer == null || backBuffer.getWidth() != getWidth()
+				|| backBuffer.getHeight() != getHeight()) {
+			backBuffer = new BufferedImage(Math.max(getWidth(), 1), Math.max(getHeight(), 1),
+					BufferedImage.TYPE_INT_RGB);
+			backBufferInvalid = true;
+		}
+		if (backBufferInvalid) {
+			paintBackBuffer();
+		}
+		g.drawImage(backBuffer, 0, 0, null);
+	}
+
+	/**
+	 * Draws the grid and every walk in the back buffer from scratch.
+	 */
+	private void paintBackBuffer() {
+		Graphics2D g2 = backBuffer.createGraphics();
+		g2.setColor(Color.WHITE);
+		g2.fillRect(0, 0, backBuffer.getWidth(), backBuffer.getHeight());
+		if (isVisibleGrid()) {
+			paintGrid(g2);
+		}
+		if (tailLength > 0) {
+			ensureFadeBoundaries();
+			if (tailPointUses != null) {
+				Arrays.fill(tailPointUses, 0);
+			}
+		}
+		for (int i = 0; i < walks.size(); ++i) {
+			g2.setColor(getWalkColor(i));
+			if (tailLength > 0) {
+				drawFadingWalk(g2, i);
+			} else {
+				drawWalk(g2, walks.get(i));
+			}
+		}
+		g2.dispose();
+		backBufferInvalid = false;
+	}
+
+	/**
+	 * Registers a visit of a walk to a point of the space and writes the new
+	 * color of the point in the raster image.
+	 * 
+	 * @param walk
+	 *          Index of the walk.
+	 * @param x
+	 *          X coordinate of the point, in points.
+	 * @param y
+	 *          Y coordinate of the point, in points.
+	 */
+	private void visitPoint(int walk, int x, int y) {
+		if (rasterImage == null || x < 0 || y < 0 || x >= rasterImage.getWidth() || y >= rasterImage.getHeight()) {
+			return;
+		}
+		final int INDEX = y * rasterImage.getWidth() + x;
+		lastVisitors[INDEX] = walk + 1;
+		visitCounts[INDEX]++;
+		if (renderMode != RenderMode.LINES && renderMode != RenderMode.HEATMAP) {
+			rasterPixels[INDEX] = getRasterColor(INDEX);
+		}
+	}
+
+	/**
+	 * Returns the color of a point of the raster image in the current render mode.
+	 * 
+	 * @param index
+	 *          Index of the point in the raster image.
+	 * @return RGB color of the point.
+	 */
+	private int getRasterColor(int index) {
+		if (renderMode == RenderMode.DENSITY) {
+			final int BRIGHTNESS = 255 - Math.min(255, visitCounts[index] * DENSITY_STEP);
+			return (BRIGHTNESS << 16) | (BRIGHTNESS << 8) | BRIGHTNESS;
+		}
+		if (lastVisitors[index] == 0) {
+			return Color.WHITE.getRGB();
+		}
+		return getWalkColor(lastVisitors[index] - 1).getRGB();
+	}
+
+	/**
+	 * Writes every pixel of the raster image from scratch.
+	 */
+	private void paintRaster() {
+		if (rasterPixels == null || renderMode == RenderMode.LINES || renderMode == RenderMode.HEATMAP) {
+			return;
+		}
+		for (int i = 0; i < rasterPixels.length; ++i) {
+			rasterPixels[i] = getRasterColor(i);
+		}
+	}
+
+	/**
+	 * Writes every pixel of the raster image from the visit counts, with the
+	 * colors of the heat scale. The counts of the model are used when they match
+	 * the space of the panel, and the ones of the panel otherwise, as when a
+	 * recording is replayed. The color of each count is looked up by its
+	 * logarithm, so no logarithm is calculated per pixel.
+	 */
+	private void paintHeatmap() {
+		if (rasterPixels == null) {
+			return;
+		}
+		final int WIDTH = rasterImage.getWidth();
+		final int HEIGHT = rasterImage.getHeight();
+		final boolean MODEL_COUNTS = modelVisitCounts != null && modelVisitCounts.getRows() == WIDTH
+				&& modelVisitCounts.getColumns() == HEIGHT;
+		int maximum = 0;
+		if (MODEL_COUNTS) {
+			maximum = modelVisitCounts.getMaximum();
+		} else {
+			for (int i = 0; i < visitCounts.length; ++i) {
+				maximum = Math.max(maximum, visitCounts[i]);
+			}
+		}
+		final int TOP_LEVEL = logLevel(maximum);
+		if (TOP_LEVEL != heatmapTopLevel) {
+			heatmapTopLevel = TOP_LEVEL;
+			heatmapColors[0] = Color.WHITE.getRGB();
+			for (int level = 1; level < HEAT_COLORS; ++level) {
+				heatmapColors[level] = HEAT_SCALE[Math.min(HEAT_COLORS - 1, level * (HEAT_COLORS - 1) / TOP_LEVEL)];
+			}
+		}
+		if (MODEL_COUNTS) {
+			// The model counts are in row-major order of the model, where a row is
+			// an x coordinate of the panel.
+			final int[] COUNTS = modelVisitCounts.getCounts();
+			for (int x = 0; x < WIDTH; ++x) {
+				final int ROW_START = x * HEIGHT;
+				for (int y = 0; y < HEIGHT; ++y) {
+					rasterPixels[y * WIDTH + x] = heatmapColors[logLevel(COUNTS[ROW_START + y])];
+				}
+			}
+		} else {
+			for (int i = 0; i < rasterPixels.length; ++i) {
+				rasterPixels[i] = heatmapColors[logLevel(visitCounts[i])];
+			}
+		}
+	}
+
+	/**
+	 * Returns the base 2 logarithm of a count in units of an eighth, plus one,
+	 * calculated from the position of its highest bit and the three bits which
+	 * follow it.
+	 * 
+	 * @param count
+	 *          Count of visits.
+	 * @return 0 for no visits, between 1 and 248 otherwise.
+	 */
+	private static int logLevel(int count) {
+		if (count <= 0) {
+			return 0;
+		}
+		final int LEADING_ZEROS = Integer.numberOfLeadingZeros(count);
+		final int FRACTION = (count << LEADING_ZEROS) >>> (Integer.SIZE - 1 - LOG_FRACTION_BITS)
+				& ((1 << LOG_FRACTION_BITS) - 1);
+		return ((Integer.SIZE - 1 - LEADING_ZEROS) << LOG_FRACTION_BITS) + FRACTION + 1;
+	}
+
+	/**
+	 * Creates the colors of the heat scale, from pale yellow through orange and
+	 * red to almost black.
+	 * 
+	 * @return RGB colors of the scale.
+	 */
+	private static int[] createHeatScale() {
+		final float[][] STOPS = { { 1f, 1f, 0.75f }, { 1f, 0.65f, 0f }, { 0.85f, 0.1f, 0f }, { 0.25f, 0f, 0.05f } };
+		int[] scale = new int[HEAT_COLORS];
+		for (int i = 0; i < HEAT_COLORS; ++i) {
+			final float POSITION = (float) i / (HEAT_COLORS - 1) * (STOPS.length - 1);
+			final int STOP = Math.min((int) POSITION, STOPS.length - 2);
+			final float WEIGHT = POSITION - STOP;
+			int rgb = 0;
+			for (int channel = 0; channel < 3; ++channel) {
+				final float VALUE = STOPS[STOP][channel] + (STOPS[STOP + 1][channel] - STOPS[STOP][channel]) * WEIGHT;
+				rgb = (rgb << 8) | Math.round(VALUE * 255);
+			}
+			scale[i] = rgb;
+		}
+		return scale;
+	}
+
+	/**
+	 * Establishes the counts of the visits of the model used by the heatmap
+	 * render mode.
+	 * 
+	 * @param visitCounts
+	 *          Counts of the visits, null to use the ones of the panel.
+	 */
+	public void setVisitCounts(VisitCounts visitCounts) {
+		modelVisitCounts = visitCounts;
+		repaint();
+	}
+
+	/**
+	 * Returns the color of a walk.
+	 * 
+	 * @param walk
+	 *          Index of the walk.
+	 * @return Color of the walk.
+	 */
+	private Color getWalkColor(int walk) {
+		return AVAILABLE_COLORS[getWalkColorIndex(walk)];
+	}
+
+	/**
+	 * Returns the index of the color of a walk in the available colors.
+	 * 
+	 * @param walk
+	 *          Index of the walk.
+	 * @return Index of its color.
+	 */
+	private int getWalkColorIndex(int walk) {
+		return (FIRST_WALK_INDEX_COLOR + walk) % AVAILABLE_COLORS.length;
+	}
+
+	/**
+	 * Paints the grid in the graphics object given as a parameter. The grid
+	 * lines are drawn once in a cached image, which is copied afterwards.
+	 * 
+	 * @param g
+	 *          Graphic object where the walks will be painted.
+	 */
+	public void paintGrid(Graphics g) {
+		if (gridImage == null) {
+			gridImage = new BufferedImage(Math.max(rows * xSegmentSize, 1) + 1,
+					Math.max(columns * ySegmentSize, 1) + 1, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D g2 = gridImage.createGraphics();
+			g2.setColor(Color.BLACK);
+			for (int i = 0; i < rows; ++i) {
+				g2.drawLine(0, i * ySegmentSize, rows * xSegmentSize,i * ySegmentSize);
+			}
+			for (int i = 0; i < columns; ++i) {
+				g2.drawLine(i * xSegmentSize, 0, i * xSegmentSize,columns* ySegmentSize);
+			}
+			g2.dispose();
+		}
+		g.drawImage(gridImage, 0, 0, null);
+	}
+
+	/**
+	 * Draws a walk, decoding its points one by one.
+	 * 
+	 * @param g
+	 *          Graphic object where the walks will be painted.
+	 * @param walk
+	 *          Walk to draw.
+	 */
+	public void drawWalk(Graphics g, WalkPath walk) {
+		PathCursor cursor = walk.cursor();
+		cursor.next();
+		int xOriginPoint = cursor.getRow() * xSegmentSize;
+		int yOriginPoint = cursor.getColumn() * ySegmentSize;
+		if (walk.getAmountOfPoints() < 2) {
+			g.fillOval(xOriginPoint - RADIUS, yOriginPoint - RADIUS, DIAMETER, DIAMETER);
+			return;
+		}
+		Graphics2D g2 = (Graphics2D) g;
+		g2.setStroke(walkStroke);
+		while (cursor.next()) {
+			final int X_DESTINATION_POINT = cursor.getRow() * xSegmentSize;
+			final int Y_DESTINATION_POINT = cursor.getColumn() * ySegmentSize;
+			g2.drawLine(xOriginPoint, yOriginPoint, X_DESTINATION_POINT, Y_DESTINATION_POINT);
+			xOriginPoint = X_DESTINATION_POINT;
+			yOriginPoint = Y_DESTINATION_POINT;
+		}
+	}
+	
+	/**
+	 * Draws a walk with its oldest segments fainter than the newest ones, and
+	 * keeps the first point of the segment at each fade boundary and the uses
+	 * of the points, from where addMoves goes on.
+	 * 
+	 * @param g2
+	 *          Graphic object where the walks will be painted.
+	 * @param walkIndex
+	 *          Index of the walk to draw.
+	 */
+	private void drawFadingWalk(Graphics2D g2, int walkIndex) {
+		WalkPath walk = walks.get(walkIndex);
+		if (walk.getAmountOfPoints() < 2) {
+			drawWalk(g2, walk);
+			useTailPoint(walk.getLastRow(), walk.getLastColumn(), 1);
+			return;
+		}
+		final Color[] PALETTE = fadePalette[getWalkColorIndex(walkIndex)];
+		final int FIRST_BOUNDARY = walkIndex * fadeBoundaryAges.length;
+		final int SEGMENTS = walk.getAmountOfPoints() - 1;
+		PathCursor cursor = walk.cursor();
+		cursor.next();
+		int xOriginPoint = cursor.getRow() * xSegmentSize;
+		int yOriginPoint = cursor.getColumn() * ySegmentSize;
+		g2.setStroke(walkStroke);
+		int boundary = fadeBoundaryAges.length - 1;
+		for (int i = 0; cursor.next(); ++i) {
+			final int AGE = SEGMENTS - 1 - i;
+			while (boundary >= 0 && fadeBoundaryAges[boundary] > AGE) {
+				boundary--;
+			}
+			if (boundary >= 0 && fadeBoundaryAges[boundary] == AGE) {
+				fadeBoundaryRows[FIRST_BOUNDARY + boundary] = xOriginPoint / xSegmentSize;
+				fadeBoundaryColumns[FIRST_BOUNDARY + boundary] = yOriginPoint / ySegmentSize;
+			}
+			g2.setColor(PALETTE[fadeLevel(AGE)]);
+			useTailPoint(xOriginPoint / xSegmentSize, yOriginPoint / ySegmentSize, 1);
+			useTailPoint(cursor.getRow(), cursor.getColumn(), 1);
+			final int X_DESTINATION_POINT = cursor.getRow() * xSegmentSize;
+			final int Y_DESTINATION_POINT = cursor.getColumn() * ySegmentSize;
+			g2.drawLine(xOriginPoint, yOriginPoint, X_DESTINATION_POINT, Y_DESTINATION_POINT);
+			xOriginPoint = X_DESTINATION_POINT;
+			yOriginPoint = Y_DESTINATION_POINT;
+		}
+	}
+
+	/**
+	 * Creates an empty walk path with the kind of storage of the current tail
+	 * length.
+	 * 
+	 * @param row
+	 *          Row of the first point, in grid units.
+	 * @param column
+	 *          Column of the first point, in grid units.
+	 * @return New walk path.
+	 */
+	private WalkPath createWalkPath(int row, int column) {
+		if (tailLength > 0) {
+			return new TailPath(row, column, tailLength);
+		}
+		return new CompactWalkPath(row, column);
+	}
+
+	/**
+	 * Calculates the equivalent starting point and adds a new random walk.
+	 * @param xStartingPosition X axis starting position point.
+	 * @param yStartingPosition Y axis starting position point.
+	 * @return Model starting position.
+	 */
+	public Point newRandomWalk(int xStartingPosition, int yStartingPosition) { 
+		Point startingPoint = getNearestPoint(xStartingPosition, yStartingPosition);
+		addRandomWalk(startingPoint.x * xSegmentSize, startingPoint.y * ySegmentSize);
+		return startingPoint;
+	}
+
+	/**
+	 * Calculates the point of the grid nearest to a position of the panel.
+	 * @param x X coordinate of the position, in pixels.
+	 * @param y Y coordinate of the position, in pixels.
+	 * @return Nearest point, in grid units.
+	 */
+	public Point getNearestPoint(int x, int y) {
+		return new Point(toGridIndex(x, xSegmentSize, columns), toGridIndex(y, ySegmentSize, rows));
+	}
+
+	/**
+	 * Returns the nearest grid line to a position, in constant time. A position
+	 * just in the middle of two lines goes to the first one.
+	 * @param position Position in pixels.
+	 * @param segmentSize Pixels between two grid lines.
+	 * @param lastIndex Index of the last grid line.
+	 * @return Index of the nearest grid line.
+	 */
+	private static int toGridIndex(int position, int segmentSize, int lastIndex) {
+		int index = Math.floorDiv(position - 1, segmentSize);
+		if (position - index * segmentSize > segmentSize / 2) {
+			index++;
+		}
+		return Math.max(0, Math.min(index, lastIndex));
+	}
+
+	/**
+	 * Getter method for amountOfPoints attribute.
+	 * 
+	 * @return amountOfPoints
+	 */
+	public int getAmountOfPoints() {
+		return amountOfPoints;
+	}
+
+	/**
+	 * Getter method for rows attribute.
+	 * 
+	 * @return rows
+	 */
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * Getter method for columns attribute.
+	 * 
+	 * @return columns
+	 */
+	public int getColumns() {
+		return columns;
+	}
+
+	/**
+	 * Setter method for amountOfPoints attribute.
+	 * 
+	 * @param amountOfPoints
+	 */
+	public void setAmountOfPoints(int amountOfPoints) {
+		if (amountOfPoints < 4) {
+			throw new IllegalArgumentException("Wrong amount of points.");
+		}
+		final int NEEDED_ROWS_AND_COLUMNS = (int) Math.sqrt(amountOfPoints) - 1;
+		setGridSize(NEEDED_ROWS_AND_COLUMNS, NEEDED_ROWS_AND_COLUMNS);
+		this.amountOfPoints = amountOfPoints;
+	}
+
+	/**
+	 * Establishes the amount of columns and rows of the grid, as needed to show a
+	 * recorded space.
+	 * 
+	 * @param columns
+	 *          Amount of columns.
+	 * @param rows
+	 *          Amount of rows.
+	 */
+	public void setGridSize(int columns, int rows) {
+		if (columns < 1 || rows < 1 || columns > getPreferredSize().getWidth()
+				|| rows > getPreferredSize().getHeight()) {
+			throw new IllegalArgumentException("Wrong grid size: " + columns + "x" + rows);
+		}
+		this.amountOfPoints = (columns + 1) * (rows + 1);
+		modelVisitCounts = null;
+		setColumns(columns);
+		setRows(rows);
+		setxSegmentSize((int) (getPreferredSize().getWidth() / getColumns()));
+		setySegmentSize((int) (getPreferredSize().getHeight() / getRows()));
+		DIAMETER = (int) (getxSegmentSize() * 0.4);
+		RADIUS = DIAMETER / 2;
+		walkStroke = new BasicStroke(RADIUS);
+		gridImage = null;
+		rasterImage = new BufferedImage(getColumns() + 1, getRows() + 1, BufferedImage.TYPE_INT_RGB);
+		rasterPixels = ((DataBufferInt) rasterImage.getRaster().getDataBuffer()).getData();
+		lastVisitors = new int[rasterPixels.length];
+		visitCounts = new int[rasterPixels.length];
+		tailPointUses = new int[rasterPixels.length];
+		paintRaster();
+		backBufferInvalid = true;
+		repaint();
+	}
+
+	/**
+	 * Removes every walk and every visit of the points.
+	 */
+	public void clearRandomWalks() {
+		walks.clear();
+		if (rasterPixels != null) {
+			Arrays.fill(lastVisitors, 0);
+			Arrays.fill(visitCounts, 0);
+			paintRaster();
+		}
+		backBufferInvalid = true;
+		repaint();
+	}
+
+	/**
+	 * Changes randomly the colors of this RandomWalksPanel.
+	 */
+	public void changeColors() {
+		FIRST_WALK_INDEX_COLOR++;
+		backBufferInvalid = true;
+		paintRaster();
+		repaint();
+	}
+
+	/**
+	 * Setter method for rows attribute.
+	 * 
+	 * @param rows
+	 */
+	private void setRows(int rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Setter method for columns attribute.
+	 * 
+	 * @param columns
+	 */
+	private void setColumns(int columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Getter method for xSegmentSize attribute.
+	 * 
+	 * @return xSegmentSize
+	 */
+	public int getxSegmentSize() {
+		return xSegmentSize;
+	}
+
+	/**
+	 * Getter method for ySegmentSize attribute.
+	 * 
+	 * @return ySegmentSize
+	 */
+	public int getySegmentSize() {
+		return ySegmentSize;
+	}
+
+	/**
+	 * Setter method for xSegmentSize attribute.
+	 * 
+	 * @param xSegmentSize
+	 */
+	public void setxSegmentSize(int xSegmentSize) {
+		this.xSegmentSize = xSegmentSize;
+	}
+
+	/**
+	 * Setter method for ySegmentSize attribute.
+	 * 
+	 * @param ySegmentSize
+	 */
+	public void setySegmentSize(int ySegmentSize) {
+		this.ySegmentSize = ySegmentSize;
+	}
+
+	/**
+	 * Getter method for tailLength attribute.
+	 * 
+	 * @return tailLength
+	 */
+	public int getTailLength() {
+		return tailLength;
+	}
+
+	/**
+	 * Establishes the maximum amount of points kept of each walk, 0 to keep them
+	 * all. The walks which already exist keep their last points.
+	 * 
+	 * @param tailLength
+	 *          New tail length, 0 or at least 2.
+	 */
+	public void setTailLength(int tailLength) {
+		this.tailLength = tailLength;
+		int[] boundaryAges = new int[FADE_LEVELS];
+		int amountOfBoundaries = 0;
+		for (int age = 1; age < tailLength - 1; ++age) {
+			if (fadeLevel(age) != fadeLevel(age - 1)) {
+				boundaryAges[amountOfBoundaries++] = age;
+			}
+		}
+		fadeBoundaryAges = Arrays.copyOf(boundaryAges, amountOfBoundaries);
+		for (int i = 0; i < walks.size(); ++i) {
+			PathCursor cursor = walks.get(i).cursor();
+			cursor.next();
+			WalkPath walk = createWalkPath(cursor.getRow(), cursor.getColumn());
+			while (cursor.next()) {
+				walk.addPoint(cursor.getRow(), cursor.getColumn());
+			}
+			walks.set(i, walk);
+		}
+		backBufferInvalid = true;
+		repaint();
+	}
+
+	/**
+	 * Getter method for renderMode attribute.
+	 * 
+	 * @return renderMode
+	 */
+	public RenderMode getRenderMode() {
+		return renderMode;
+	}
+
+	/**
+	 * Setter method for renderMode attribute.
+	 * 
+	 * @param renderMode
+	 */
+	public void setRenderMode(RenderMode renderMode) {
+		this.renderMode = renderMode;
+		backBufferInvalid = true;
+		paintRaster();
+		repaint();
+	}
+
+	/**
+	 * Getter method for visibleGrid attribute.
+	 * @return visibleGrid
+	 */
+	public boolean isVisibleGrid() {
+		return visibleGrid;
+	}
+
+	/**
+	 * Setter method for visibleGrid attribute.
+	 */
+	public void changeGridVisibility() {
+		visibleGrid = !visibleGrid;
+		backBufferInvalid = true;
+		repaint();
+	}
+}
@@ -0,0 +1,48 @@
+/**
+ * File containing the RenderMode entity definition.
+ */
+
+package pai.pract10.randomwalks.view;
+
+/**
+ * Enumeration which represents the ways the RandomWalksPanel can draw the
+ * walks. It was created for the tenth practice of PAI (Programación de
+ * Aplicaciones Interactivas) course of ULL (Universidad de la Laguna).
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public enum RenderMode {
+	/** Each walk is drawn as the lines between its points. */
+	LINES("Lines"),
+	/** Each visited point is painted with the color of the last walk which visited it. */
+	LAST_VISITOR("Last visitor"),
+	/** Each visited point is painted darker the more times it has been visited. */
+	DENSITY("Density"),
+	/** Each point is painted with a color of a heat scale, logarithmic in the times it has been visited. */
+	HEATMAP("Heatmap");
+
+	/** Name shown in the GUI. */
+	private final String label;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param label
+	 *          Name shown in the GUI.
+	 */
+	private RenderMode(String label) {
+		this.label = label;
+	}
+
+	/**
+	 * Returns the name shown in the GUI.
+	 * 
+	 * @return Name of the mode.
+	 */
+	@Override
+	public String toString() {
+		return label;
+	}
+}
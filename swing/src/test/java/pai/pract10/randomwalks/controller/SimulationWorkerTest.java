@@ -0,0 +1,69 @@
+/**
+ * File containing the SimulationWorkerTest entity definition.
+ */
+
+package pai.pract10.randomwalks.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import pai.pract10.randomwalks.model.MoveBatch;
+import pai.pract10.randomwalks.model.RandomWalksModel;
+
+/**
+ * Class which tests the behavior of the SimulationWorker class.
+ *
+ * @author Daute Rodríguez Rodríguez (alu0100973914@ull.edu.es)
+ * @version 1.0
+ * @since 18 oct. 2026
+ */
+public class SimulationWorkerTest {
+
+	/** Seed used by the tests. */
+	private static final long	SEED							= 42;
+	/** Amount of random walks of the simulated model. */
+	private static final int	WALKS							= 100;
+	/** Amount of moves not taken after which the tested worker waits. */
+	private static final int	MAX_PENDING_MOVES	= 10 * WALKS;
+
+	/**
+	 * Test method for {@link pai.pract10.randomwalks.controller.SimulationWorker#stop()}.
+	 * Stopping a worker which waits for the view to take its moves must not lose
+	 * the moves the model has already done.
+	 *
+	 * @throws InterruptedException If the test is interrupted.
+	 */
+	@Test(timeout = 10000)
+	public final void testStopWhileWaitingForTheView() throws InterruptedException {
+		final int SIZE = 1000;
+		RandomWalksModel model = new RandomWalksModel(SIZE, SIZE, true, SEED);
+		for (int i = 0; i < WALKS; ++i) {
+			model.addRandomWalk(SIZE / 2, i * SIZE / WALKS);
+		}
+		SimulationWorker worker = new SimulationWorker(model, 0, MAX_PENDING_MOVES);
+		worker.start();
+		// The worker waits once the iterations stop growing.
+		long iterations = -1;
+		while (model.getIterations() != iterations) {
+			iterations = model.getIterations();
+			Thread.sleep(100);
+		}
+		assertTrue(iterations * WALKS > MAX_PENDING_MOVES);
+		worker.stop();
+		MoveBatch frame = worker.takeFrame();
+		assertEquals(model.getIterations(), frame.getIterations());
+		int[] rows = new int[WALKS];
+		int[] columns = new int[WALKS];
+		for (int move = 0; move < frame.size(); ++move) {
+			rows[frame.getWalker(move)] = frame.getRow(move);
+			columns[frame.getWalker(move)] = frame.getColumn(move);
+		}
+		for (int walker = 0; walker < WALKS; ++walker) {
+			assertEquals(model.getCurrentRow(walker), rows[walker]);
+			assertEquals(model.getCurrentColumn(walker), columns[walker]);
+		}
+	}
+
+}